@@ -0,0 +1,73 @@
+package mn_react.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import io.micronaut.context.ApplicationContext;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
+import mn_react.application.usecase.book.CreateBookUseCase;
+import mn_react.domain.entities.Book;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookBatchCreateBenchmark {
+
+    @Param({"100", "1000"})
+    int books;
+
+    private ApplicationContext context;
+    private CreateBookUseCase createBookUseCase;
+    private CreateBookBatchUseCase createBookBatchUseCase;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:batch-create-" + books + ";DB_CLOSE_DELAY=-1"
+        ));
+        createBookUseCase = context.getBean(CreateBookUseCase.class);
+        createBookBatchUseCase = context.getBean(CreateBookBatchUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long singleItemPath() {
+        long created = 0;
+        for (int i = 0; i < books; i++) {
+            created += createBookUseCase.execute("Single " + sequence++, 200).getId();
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<BookBatchResult> batchPath() {
+        List<Book> batch = new ArrayList<>(books);
+        for (int i = 0; i < books; i++) {
+            batch.add(Book.builder().title("Batch " + sequence++).pages(200).build());
+        }
+        return createBookBatchUseCase.execute(batch);
+    }
+}
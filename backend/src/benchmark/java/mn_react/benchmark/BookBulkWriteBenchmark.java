@@ -0,0 +1,103 @@
+package mn_react.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import io.micronaut.context.ApplicationContext;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.BookPatch;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
+import mn_react.application.usecase.book.DeleteBookBatchUseCase;
+import mn_react.application.usecase.book.DeleteBookUseCase;
+import mn_react.application.usecase.book.UpdateBookBatchUseCase;
+import mn_react.application.usecase.book.UpdateBookUseCase;
+import mn_react.domain.entities.Book;
+
+/**
+ * Each invocation first seeds {@code books} rows through the batch create path, so the
+ * score includes that shared setup cost; compare the single and bulk variants to each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookBulkWriteBenchmark {
+
+    @Param({"100", "1000"})
+    int books;
+
+    private ApplicationContext context;
+    private CreateBookBatchUseCase createBookBatchUseCase;
+    private UpdateBookUseCase updateBookUseCase;
+    private UpdateBookBatchUseCase updateBookBatchUseCase;
+    private DeleteBookUseCase deleteBookUseCase;
+    private DeleteBookBatchUseCase deleteBookBatchUseCase;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:bulk-write-" + books + ";DB_CLOSE_DELAY=-1"
+        ));
+        createBookBatchUseCase = context.getBean(CreateBookBatchUseCase.class);
+        updateBookUseCase = context.getBean(UpdateBookUseCase.class);
+        updateBookBatchUseCase = context.getBean(UpdateBookBatchUseCase.class);
+        deleteBookUseCase = context.getBean(DeleteBookUseCase.class);
+        deleteBookBatchUseCase = context.getBean(DeleteBookBatchUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long singleUpdateThenDelete() {
+        List<Long> ids = seed();
+        long touched = 0;
+        for (Long id : ids) {
+            touched += updateBookUseCase.execute(id, "Updated " + sequence++, 300).getPages();
+        }
+        for (Long id : ids) {
+            deleteBookUseCase.execute(id);
+        }
+        return touched;
+    }
+
+    @Benchmark
+    public List<BookBatchResult> bulkUpdateThenDelete() {
+        List<Long> ids = seed();
+        List<BookPatch> patches = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            patches.add(BookPatch.builder().id(id).title("Updated " + sequence++).pages(300).build());
+        }
+        updateBookBatchUseCase.execute(patches);
+        return deleteBookBatchUseCase.execute(ids);
+    }
+
+    private List<Long> seed() {
+        List<Book> batch = new ArrayList<>(books);
+        for (int i = 0; i < books; i++) {
+            batch.add(Book.builder().title("Bulk " + sequence++).pages(200).build());
+        }
+        return createBookBatchUseCase.execute(batch).stream()
+            .map(BookBatchResult::getId)
+            .toList();
+    }
+}
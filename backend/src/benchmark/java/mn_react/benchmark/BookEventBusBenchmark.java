@@ -0,0 +1,71 @@
+package mn_react.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mn_react.application.listener.BookEventConsumer;
+import mn_react.domain.entities.Book;
+import mn_react.domain.events.BookCreated;
+import mn_react.domain.events.BookEvent;
+import mn_react.infrastructure.event.BookEventBus;
+import mn_react.infrastructure.event.BookEventConfiguration;
+
+/**
+ * What a writer pays to hand one event over, by number of consumers. {@code inline} calls the
+ * consumers on the writer's thread, as a synchronous listener would; {@code publish} only enqueues.
+ * The consumers fall behind at full publish rate, so the queues overflow and drop; that is the
+ * point, the writer's cost must not change when they do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookEventBusBenchmark {
+
+    @Param({"0", "1", "16"})
+    int consumers;
+
+    private BookEventBus bus;
+    private List<BookEventConsumer> registered;
+    private Book book;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registered = new ArrayList<>();
+        for (int i = 0; i < consumers; i++) {
+            // stands in for a consumer doing a little work per event, e.g. encoding it
+            registered.add(events -> Blackhole.consumeCPU(200L * events.size()));
+        }
+        bus = new BookEventBus(new BookEventConfiguration(), registered, new SimpleMeterRegistry());
+        book = Book.builder().id(1L).title("Dune").pages(412).version(0L).build();
+    }
+
+    @Benchmark
+    public void publish() {
+        bus.publish(new BookCreated(book));
+    }
+
+    @Benchmark
+    public void inline() {
+        List<BookEvent> events = List.of(new BookCreated(book));
+        for (BookEventConsumer consumer : registered) {
+            consumer.consume(events);
+        }
+    }
+}
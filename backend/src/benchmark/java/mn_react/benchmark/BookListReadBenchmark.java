@@ -0,0 +1,74 @@
+package mn_react.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import io.micronaut.context.ApplicationContext;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.persistence.BookResponseReader;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcRepository;
+import mn_react.infrastructure.persistence.jdbc.BookResponseRepository;
+
+/**
+ * A list page as the controller reads it, through the search index, versus the same page
+ * projected by the SQL query alone. Run with {@code -prof gc} for allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookListReadBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    @Param({"", "book 1"})
+    String search;
+
+    private ApplicationContext context;
+    private BookResponseRepository responses;
+    private BookResponseReader reader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:list-read;DB_CLOSE_DELAY=-1",
+            "books.query-profiler.enabled", "false"
+        ));
+        BookPaginationBenchmark.seed(context.getBean(BookJdbcRepository.class), ROWS);
+        responses = context.getBean(BookResponseRepository.class);
+        reader = context.getBean(BookResponseReader.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookResponse> query() {
+        return responses.findAllPaginated(pageSize, pageSize, search);
+    }
+
+    @Benchmark
+    public List<BookResponse> indexed() {
+        return reader.findAll(1, pageSize, search);
+    }
+}
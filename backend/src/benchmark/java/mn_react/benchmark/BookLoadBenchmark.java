@@ -0,0 +1,205 @@
+package mn_react.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.execution.VirtualThreadPinningMonitor;
+
+/**
+ * Closed-loop HTTP load test of {@code /books} under each execution mode, plus {@code REACTIVE}
+ * which drives the R2DBC adapter behind {@code /reactive/books}. Every client is a virtual thread
+ * that issues one request at a time, so concurrency equals the client count. Reads bypass the
+ * by-id and count caches so every request reaches the database through the adapter under test.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=mn_react.benchmark.BookLoadBenchmark \
+ *     -Dbenchmark.args="modes=IO,PLATFORM,VIRTUAL,REACTIVE clients=1000 seconds=20"
+ * </pre>
+ */
+public class BookLoadBenchmark {
+
+    private static final int SEEDED_BOOKS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "IO,PLATFORM,VIRTUAL,REACTIVE").split(","));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "1000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "20"));
+
+        List<String> report = new ArrayList<>();
+        for (String mode : modes) {
+            report.add(run(mode.trim(), clients, warmupSeconds, seconds));
+        }
+        System.out.printf("%n%-9s %8s %10s %9s %9s %9s %7s%n",
+            "mode", "clients", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    private static String run(String mode, int clients, int warmupSeconds, int seconds) throws Exception {
+        boolean reactive = mode.equals("REACTIVE");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("micronaut.server.port", -1);
+        properties.put("datasources.default.url", "jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1");
+        properties.put("books.execution.mode", reactive ? "IO" : mode);
+        properties.put("books.by-id-cache.enabled", false);
+        properties.put("books.count-cache.enabled", false);
+        properties.put("books.reactive.enabled", reactive);
+        properties.put("books.reactive.url", "r2dbc:h2:mem:///load-" + mode + "?options=DB_CLOSE_DELAY=-1");
+        try (EmbeddedServer server = ApplicationContext.run(EmbeddedServer.class, properties)) {
+            ApplicationContext context = server.getApplicationContext();
+            List<Long> ids = seed(context.getBean(CreateBookBatchUseCase.class));
+            URI base = server.getURI().resolve(reactive ? "/reactive/" : "/");
+
+            Load load = new Load(clients);
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(threads)
+                     .build()) {
+                for (int client = 0; client < clients; client++) {
+                    int slot = client;
+                    threads.submit(() -> load.client(slot, http, base, ids));
+                }
+                TimeUnit.SECONDS.sleep(warmupSeconds);
+                load.startMeasuring();
+                TimeUnit.SECONDS.sleep(seconds);
+                load.stop();
+                threads.shutdownNow();
+            }
+
+            context.findBean(VirtualThreadPinningMonitor.class).ifPresent(monitor ->
+                monitor.pinnedByFrame().forEach((frame, count) ->
+                    System.out.printf("[%s] pinned %d times at %s%n", mode, count, frame)));
+            return load.summary(mode, clients);
+        }
+    }
+
+    private static List<Long> seed(CreateBookBatchUseCase createBookBatchUseCase) {
+        List<Book> books = new ArrayList<>(SEEDED_BOOKS);
+        for (int i = 0; i < SEEDED_BOOKS; i++) {
+            books.add(Book.builder().title("Load Book " + i).pages(100 + i % 900).build());
+        }
+        return createBookBatchUseCase.execute(books).stream()
+            .map(BookBatchResult::getId)
+            .toList();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class Load {
+
+        private final long[][] latencies;
+        private final int[] recorded;
+        private final AtomicLong errors = new AtomicLong();
+        private volatile boolean measuring;
+        private volatile boolean running = true;
+        private volatile long measureStart;
+        private volatile long measureEnd;
+
+        Load(int clients) {
+            this.latencies = new long[clients][1024];
+            this.recorded = new int[clients];
+        }
+
+        void client(int slot, HttpClient http, URI base, List<Long> ids) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running) {
+                // 70% single reads, 30% offset pages, matching the frontend's list/detail mix
+                String path = random.nextInt(10) < 7
+                    ? "books/" + ids.get(random.nextInt(ids.size()))
+                    : "books?page=" + random.nextInt(50) + "&size=20";
+                HttpRequest request = HttpRequest.newBuilder(base.resolve(path))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                } catch (Exception e) {
+                    ok = false;
+                    if (!running) {
+                        return;
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                if (measuring && running) {
+                    if (ok) {
+                        record(slot, elapsed);
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                }
+            }
+        }
+
+        void startMeasuring() {
+            measureStart = System.nanoTime();
+            measuring = true;
+        }
+
+        void stop() {
+            measureEnd = System.nanoTime();
+            measuring = false;
+            running = false;
+        }
+
+        String summary(String mode, int clients) {
+            int total = Arrays.stream(recorded).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            for (int slot = 0; slot < latencies.length; slot++) {
+                System.arraycopy(latencies[slot], 0, all, offset, recorded[slot]);
+                offset += recorded[slot];
+            }
+            Arrays.sort(all);
+            double elapsedSeconds = (measureEnd - measureStart) / 1e9;
+            return String.format("%-9s %8d %10.0f %9.2f %9.2f %9.2f %7d",
+                mode, clients, total / elapsedSeconds,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), errors.get());
+        }
+
+        private void record(int slot, long nanos) {
+            if (recorded[slot] == latencies[slot].length) {
+                latencies[slot] = Arrays.copyOf(latencies[slot], recorded[slot] * 2);
+            }
+            latencies[slot][recorded[slot]++] = nanos;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package mn_react.benchmark;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.BlockingHttpClient;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.runtime.server.EmbeddedServer;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+
+/**
+ * In-process load test for every {@code /books} route. Starts the application on a random port,
+ * seeds it, then runs closed-loop clients through the Micronaut HTTP client with a weighted
+ * operation mix. Latencies go into one HdrHistogram per operation and the run is written as JSON;
+ * with {@code baseline=} the run is compared to an earlier report and the process exits with 1
+ * when any operation regressed beyond {@code tolerance} percent.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=mn_react.benchmark.BookLoadSuite \
+ *     -Dbenchmark.args="seed=10000 clients=64 seconds=30 report=target/load/current.json baseline=target/load/main.json"
+ * </pre>
+ *
+ * Pass {@code current=<file>} instead of running to compare two existing reports.
+ *
+ * {@code pool=<n>} caps every connection pool and {@code replica=true} adds a second pool on the
+ * same database as the read replica, so two runs show what read routing does to pool contention;
+ * any other application property can be set with {@code set.<property>=<value>}. Each pool's
+ * acquisitions and wait times are printed after the run, with how many list reads were coalesced.
+ *
+ * A thundering herd on the first page, where every write invalidates the page cache:
+ *
+ * <pre>
+ * -Dbenchmark.args="clients=64 pool=4 mix=home=95,create=5"
+ * -Dbenchmark.args="clients=64 pool=4 mix=home=95,create=5 set.books.page-coalescing.enabled=false"
+ * </pre>
+ */
+public class BookLoadSuite {
+
+    private static final String DEFAULT_MIX = "list=40,search=15,all=1,get=30,create=6,update=5,delete=3";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "10"));
+
+        JsonMapper jsonMapper = JsonMapper.createDefault();
+        LoadReport report;
+        if (options.containsKey("current")) {
+            report = LoadReport.read(jsonMapper, Path.of(options.get("current")));
+        } else {
+            report = run(options);
+            report.write(jsonMapper, Path.of(options.getOrDefault("report", "target/load/report.json")));
+        }
+        report.print();
+
+        if (options.containsKey("baseline")) {
+            List<String> regressions = report.regressionsAgainst(
+                LoadReport.read(jsonMapper, Path.of(options.get("baseline"))), tolerance);
+            regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+            if (!regressions.isEmpty()) {
+                System.exit(1);
+            }
+            System.out.printf("No regressions beyond %.0f%%%n", tolerance);
+        }
+    }
+
+    private static LoadReport run(Map<String, String> options) throws Exception {
+        int seed = Integer.parseInt(options.getOrDefault("seed", "5000"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("micronaut.server.port", -1);
+        properties.put("micronaut.http.client.read-timeout", "60s");
+        properties.put("micronaut.http.client.pool.max-connections", clients);
+        properties.put("datasources.default.url", "jdbc:h2:mem:load-suite;DB_CLOSE_DELAY=-1");
+        properties.put("books.execution.mode", options.getOrDefault("mode", "IO"));
+        properties.put("datasources.default.pool-name", "default");
+        boolean replica = Boolean.parseBoolean(options.getOrDefault("replica", "false"));
+        if (replica) {
+            properties.put("datasources.replica.url", properties.get("datasources.default.url"));
+            properties.put("datasources.replica.pool-name", "replica");
+            properties.put("datasources.replica.username", "${datasources.default.username}");
+            properties.put("datasources.replica.password", "${datasources.default.password}");
+        }
+        if (options.containsKey("pool")) {
+            properties.put("datasources.default.maximum-pool-size", options.get("pool"));
+            if (replica) {
+                properties.put("datasources.replica.maximum-pool-size", options.get("pool"));
+            }
+        }
+        options.forEach((key, value) -> {
+            if (key.startsWith("set.")) {
+                properties.put(key.substring(4), value);
+            }
+        });
+
+        try (EmbeddedServer server = ApplicationContext.run(EmbeddedServer.class, properties);
+             HttpClient httpClient = server.getApplicationContext().createBean(HttpClient.class, server.getURL())) {
+            List<Long> seeded = seed(server.getApplicationContext().getBean(CreateBookBatchUseCase.class), seed);
+            Workload workload = new Workload(httpClient.toBlocking(), seeded, mix);
+
+            ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+            for (int client = 0; client < clients; client++) {
+                threads.submit(workload::client);
+            }
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            workload.reset();
+            long start = System.nanoTime();
+            TimeUnit.SECONDS.sleep(seconds);
+            Map<String, Histogram> histograms = workload.snapshot();
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            workload.stop();
+            threads.shutdownNow();
+            threads.awaitTermination(30, TimeUnit.SECONDS);
+            printPools(server.getApplicationContext().getBean(MeterRegistry.class));
+            printCoalescing(server.getApplicationContext().getBean(MeterRegistry.class));
+
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("seed", seed);
+            settings.put("clients", clients);
+            settings.put("seconds", seconds);
+            settings.put("mix", mix);
+            settings.put("mode", properties.get("books.execution.mode"));
+            settings.put("replica", replica);
+            settings.put("pool", options.getOrDefault("pool", "default"));
+            return LoadReport.of(settings, histograms, workload.errors(), elapsed);
+        }
+    }
+
+    // acquisitions include seeding and warm-up; the wait times are what the clients contended for
+    private static void printPools(MeterRegistry registry) {
+        System.out.printf("%n%-14s %12s %12s %12s %9s%n", "pool", "acquisitions", "wait mean ms", "wait max ms", "timeouts");
+        for (Timer acquire : registry.find("hikaricp.connections.acquire").timers()) {
+            String pool = acquire.getId().getTag("pool");
+            double timeouts = registry.find("hikaricp.connections.timeout").tag("pool", pool).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+            System.out.printf("%-14s %12d %12.3f %12.3f %9.0f%n", pool, acquire.count(),
+                acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS), timeouts);
+        }
+    }
+
+    private static void printCoalescing(MeterRegistry registry) {
+        double executed = registry.counter("books.page-coalescing.executed").count();
+        double collapsed = registry.counter("books.page-coalescing.collapsed").count();
+        System.out.printf("list pages: %.0f executed, %.0f collapsed into another request's read%n", executed, collapsed);
+    }
+
+    private static List<Long> seed(CreateBookBatchUseCase createBookBatchUseCase, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += 1000) {
+            List<Book> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 1000, count); i++) {
+                batch.add(Book.builder().title("Seeded Book " + i).pages(100 + i % 900).build());
+            }
+            createBookBatchUseCase.execute(batch).stream().map(BookBatchResult::getId).forEach(ids::add);
+        }
+        return ids;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class Workload {
+
+        private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+        private final BlockingHttpClient client;
+        private final List<Long> seeded;
+        private final String[] operations;
+        private final int[] cumulativeWeights;
+        private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedDeque<Long> created = new ConcurrentLinkedDeque<>();
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile boolean running = true;
+
+        Workload(BlockingHttpClient client, List<Long> seeded, Map<String, Integer> mix) {
+            this.client = client;
+            this.seeded = seeded;
+            this.operations = mix.keySet().toArray(String[]::new);
+            this.cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += mix.get(operations[i]);
+                cumulativeWeights[i] = total;
+                recorders.put(operations[i], new Recorder(MAX_LATENCY_NANOS, 3));
+                errors.put(operations[i], new LongAdder());
+            }
+        }
+
+        void client() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int total = cumulativeWeights[cumulativeWeights.length - 1];
+            while (running) {
+                String operation = pick(random.nextInt(total));
+                long start = System.nanoTime();
+                try {
+                    execute(operation, random);
+                    recorders.get(operation).recordValue(Math.min(System.nanoTime() - start, MAX_LATENCY_NANOS));
+                } catch (Exception e) {
+                    if (running) {
+                        errors.get(operation).increment();
+                    }
+                }
+            }
+        }
+
+        void reset() {
+            recorders.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+        }
+
+        Map<String, Histogram> snapshot() {
+            Map<String, Histogram> histograms = new LinkedHashMap<>();
+            recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+            return histograms;
+        }
+
+        Map<String, Long> errors() {
+            Map<String, Long> totals = new LinkedHashMap<>();
+            errors.forEach((operation, count) -> totals.put(operation, count.sum()));
+            return totals;
+        }
+
+        void stop() {
+            running = false;
+        }
+
+        private String pick(int roll) {
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        private void execute(String operation, ThreadLocalRandom random) {
+            switch (operation) {
+                case "home" -> client.exchange("/books?page=0&size=10", String.class);
+                case "list" -> client.exchange("/books?page=" + random.nextInt(50) + "&size=20", String.class);
+                case "search" -> client.exchange("/books?size=20&search=book%20" + random.nextInt(1000), String.class);
+                case "all" -> client.exchange("/books?page=-1", String.class);
+                case "get" -> client.exchange("/books/" + seeded.get(random.nextInt(seeded.size())), String.class);
+                case "create" -> created.add(create());
+                case "update" -> update(random);
+                case "delete" -> delete();
+                default -> throw new IllegalArgumentException("Unknown operation " + operation);
+            }
+        }
+
+        // only books created by this run are modified, so reads of seeded ids never miss;
+        // taking the id out of the deque keeps a concurrent delete from racing the update
+        private void update(ThreadLocalRandom random) {
+            Long id = created.pollLast();
+            if (id == null) {
+                id = create();
+            }
+            try {
+                client.exchange(HttpRequest.PUT("/books/" + id,
+                    Map.of("title", "Load Book " + sequence.incrementAndGet(), "pages", 100 + random.nextInt(900))));
+            } finally {
+                created.add(id);
+            }
+        }
+
+        private void delete() {
+            Long id = created.pollFirst();
+            client.exchange(HttpRequest.DELETE("/books/" + (id == null ? create() : id)));
+        }
+
+        private Long create() {
+            return client.retrieve(HttpRequest.POST("/books",
+                Map.of("title", "Load Book " + sequence.incrementAndGet(), "pages", 200)), BookResponse.class).getId();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package mn_react.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+
+/**
+ * The entity → domain → response chain behind every list page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookMappingBenchmark {
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    private List<BookEntity> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = IntStream.range(0, pageSize)
+            .mapToObj(i -> BookEntity.builder()
+                .id((long) i)
+                .title("Mapped Book " + i)
+                .titleNormalized("mapped book " + i)
+                .pages(100 + i)
+                .version(3L)
+                .build())
+            .toList();
+    }
+
+    @Benchmark
+    public List<BookResponse> entityToResponse() {
+        return page.stream()
+            .map(BookEntity::toDomain)
+            .map(BookResponse::fromDomain)
+            .toList();
+    }
+}
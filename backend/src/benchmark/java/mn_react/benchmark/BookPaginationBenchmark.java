@@ -0,0 +1,86 @@
+package mn_react.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import io.micronaut.context.ApplicationContext;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.persistence.BookResponseReader;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    @Param({"0.01", "0.5", "0.99"})
+    double depth;
+
+    private ApplicationContext context;
+    private BookResponseReader reader;
+    private int page;
+    private long afterId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:pagination-" + rows + ";DB_CLOSE_DELAY=-1"
+        ));
+        seed(context.getBean(BookJdbcRepository.class), rows);
+        reader = context.getBean(BookResponseReader.class);
+
+        page = (int) ((rows / PAGE_SIZE - 1) * depth);
+        List<BookResponse> previous = reader.findAll(Math.max(page - 1, 0), PAGE_SIZE, "");
+        afterId = page == 0 ? Long.MAX_VALUE : previous.get(previous.size() - 1).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookResponse> offsetPage() {
+        return reader.findAll(page, PAGE_SIZE, "");
+    }
+
+    @Benchmark
+    public List<BookResponse> keysetPage() {
+        return reader.findAllAfter(afterId, PAGE_SIZE, "");
+    }
+
+    static void seed(BookJdbcRepository repository, int rows) {
+        List<BookEntity> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            batch.add(BookEntity.builder().title("Benchmark Book " + i).pages(100 + i % 900).build());
+            if (batch.size() == 1000) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+    }
+}
@@ -0,0 +1,69 @@
+package mn_react.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import io.micronaut.context.ApplicationContext;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcRepository;
+import mn_react.infrastructure.persistence.jdbc.BookResponseRepository;
+
+/**
+ * The raw list queries, without the search index or count cache in front of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookQueryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int rows;
+
+    @Param({"", "book 42"})
+    String search;
+
+    private ApplicationContext context;
+    private BookJdbcRepository repository;
+    private BookResponseRepository responses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "datasources.default.url", "jdbc:h2:mem:query-" + rows + ";DB_CLOSE_DELAY=-1"
+        ));
+        repository = context.getBean(BookJdbcRepository.class);
+        responses = context.getBean(BookResponseRepository.class);
+        BookPaginationBenchmark.seed(repository, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookResponse> findAllPaginated() {
+        return responses.findAllPaginated(0, 10, search);
+    }
+
+    @Benchmark
+    public long countWithSearch() {
+        return repository.countWithSearch(search);
+    }
+}
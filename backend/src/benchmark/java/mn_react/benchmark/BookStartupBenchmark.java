@@ -0,0 +1,167 @@
+package mn_react.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start comparison of the packaged application. Every variant is launched {@code runs} times
+ * as a fresh process; the benchmark records the time from process start to the first successful
+ * {@code GET /books} and the resident set size right after it and after {@code requests} more
+ * requests. Variants whose artifact is missing are skipped, so the native binary is optional.
+ *
+ * <pre>
+ * ./startup-benchmark.sh
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=mn_react.benchmark.BookStartupBenchmark \
+ *     -Dbenchmark.args="jvm=target/startup/backend-jvm.jar aot=target/startup/backend-aot.jar native=target/startup/backend runs=5"
+ * </pre>
+ */
+public class BookStartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "200"));
+        String javaOptions = options.getOrDefault("java-options", "");
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        for (String variant : List.of("jvm", "aot")) {
+            String jar = options.get(variant);
+            if (jar != null && Files.exists(Path.of(jar))) {
+                List<String> command = new ArrayList<>(List.of(java));
+                if (!javaOptions.isBlank()) {
+                    command.addAll(Arrays.asList(javaOptions.trim().split("\\s+")));
+                }
+                command.addAll(List.of("-jar", jar));
+                variants.put(variant, command);
+            }
+        }
+        String executable = options.get("native");
+        if (executable != null && Files.isExecutable(Path.of(executable))) {
+            variants.put("native", List.of(executable));
+        }
+        if (variants.isEmpty()) {
+            throw new IllegalArgumentException("No artifact found; pass jvm=, aot= and/or native=");
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        System.out.printf("%-8s %6s %12s %12s %12s %14s %14s%n",
+            "variant", "runs", "first p50 ms", "first min ms", "first max ms", "rss first MiB", "rss warm MiB");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] firstResponse = new long[runs];
+            long[] rssFirst = new long[runs];
+            long[] rssWarm = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                Sample sample = launch(client, variant.getValue(), requests);
+                firstResponse[run] = sample.firstResponseMillis();
+                rssFirst[run] = sample.rssFirstKib();
+                rssWarm[run] = sample.rssWarmKib();
+            }
+            Arrays.sort(firstResponse);
+            System.out.printf("%-8s %6d %12d %12d %12d %14.1f %14.1f%n",
+                variant.getKey(), runs, median(firstResponse), firstResponse[0], firstResponse[runs - 1],
+                median(rssFirst) / 1024.0, median(rssWarm) / 1024.0);
+        }
+    }
+
+    private static Sample launch(HttpClient client, List<String> command, int requests) throws Exception {
+        int port = freePort();
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().put("MICRONAUT_SERVER_PORT", Integer.toString(port));
+        URI books = URI.create("http://localhost:" + port + "/books?page=0&size=10");
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (!ok(client, books)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(command + " exited with " + process.exitValue());
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException(command + " did not answer within " + STARTUP_TIMEOUT);
+                }
+                Thread.sleep(5);
+            }
+            long firstResponse = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long rssFirst = rssKib(process.pid());
+            for (int i = 0; i < requests; i++) {
+                ok(client, books);
+            }
+            return new Sample(firstResponse, rssFirst, rssKib(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static boolean ok(HttpClient client, URI uri) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // not listening yet
+            return false;
+        }
+    }
+
+    private static long rssKib(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        return Files.readAllLines(status).stream()
+            .filter(line -> line.startsWith("VmRSS:"))
+            .map(line -> line.replaceAll("\\D+", ""))
+            .mapToLong(Long::parseLong)
+            .findFirst()
+            .orElse(0);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Sample(long firstResponseMillis, long rssFirstKib, long rssWarmKib) {
+    }
+}
@@ -0,0 +1,60 @@
+package mn_react.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import mn_react.application.usecase.book.CreateBookUseCase;
+import mn_react.application.usecase.book.UpdateBookUseCase;
+import mn_react.application.usecase.book.impl.CreateBookUseCaseImpl;
+import mn_react.application.usecase.book.impl.UpdateBookUseCaseImpl;
+import mn_react.domain.entities.Book;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookUseCaseBenchmark {
+
+    @Param({"Dune", "  The   Lord  of the    Rings:   The Fellowship of the Ring  "})
+    String title;
+
+    private InMemoryBookRepository repository;
+    private CreateBookUseCase createBookUseCase;
+    private UpdateBookUseCase updateBookUseCase;
+    private Book existing;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = new InMemoryBookRepository();
+        createBookUseCase = new CreateBookUseCaseImpl(repository, List.of());
+        updateBookUseCase = new UpdateBookUseCaseImpl(repository, List.of());
+        existing = repository.save(Book.builder().title("Existing").pages(100).build());
+    }
+
+    @Benchmark
+    public Book create() {
+        Book created = createBookUseCase.execute(title + " " + sequence++, 320);
+        // keep the map at a steady size so iterations stay comparable
+        repository.deleteById(created.getId());
+        return created;
+    }
+
+    @Benchmark
+    public Book update() {
+        return updateBookUseCase.execute(existing.getId(), title, 320 + (int) (sequence++ & 63));
+    }
+}
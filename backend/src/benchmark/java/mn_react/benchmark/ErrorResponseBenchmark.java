@@ -0,0 +1,45 @@
+package mn_react.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import mn_react.infrastructure.http.exception.ErrorField;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+import mn_react.infrastructure.http.exception.ErrorResponseFactory;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private ErrorResponseFactory errorResponseFactory;
+    private HttpRequest<?> request;
+    private List<ErrorField> errors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        errorResponseFactory = new ErrorResponseFactory();
+        request = HttpRequest.POST("/books", "");
+        errors = List.of(ErrorField.builder().field("title").message("Title is required").build());
+    }
+
+    @Benchmark
+    public ErrorResponse create() {
+        return errorResponseFactory.create(request, HttpStatus.BAD_REQUEST, "Validation failed", errors);
+    }
+}
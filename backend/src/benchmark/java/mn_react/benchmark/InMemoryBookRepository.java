@@ -0,0 +1,135 @@
+package mn_react.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
+import mn_react.domain.entities.Book;
+
+/**
+ * Map-backed port implementation so use-case benchmarks measure validation, normalization and
+ * object churn rather than the database.
+ */
+class InMemoryBookRepository implements BookRepository {
+
+    private final Map<Long, Book> books = new HashMap<>();
+    private final Map<String, Long> idsByTitle = new HashMap<>();
+    private long sequence;
+
+    @Override
+    public List<Book> findAll() {
+        return new ArrayList<>(books.values());
+    }
+
+    @Override
+    public Stream<Book> streamAll() {
+        return books.values().stream();
+    }
+
+    @Override
+    public long count() {
+        return books.size();
+    }
+
+    @Override
+    public long count(String search) {
+        if (search == null || search.isEmpty()) {
+            return books.size();
+        }
+        String needle = key(search);
+        return idsByTitle.keySet().stream().filter(title -> title.contains(needle)).count();
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return Optional.ofNullable(books.get(id));
+    }
+
+    @Override
+    public List<Book> findAllById(Collection<Long> ids) {
+        return ids.stream().map(books::get).filter(book -> book != null).toList();
+    }
+
+    @Override
+    public Book save(Book book) {
+        Book saved = Book.builder().id(++sequence).title(book.getTitle()).pages(book.getPages()).version(0L).build();
+        store(null, saved);
+        return saved;
+    }
+
+    @Override
+    public List<Book> saveAll(List<Book> batch) {
+        return batch.stream().map(this::save).toList();
+    }
+
+    private Book update(Book book) {
+        Book previous = books.get(book.getId());
+        Book updated = Book.builder()
+            .id(book.getId())
+            .title(book.getTitle())
+            .pages(book.getPages())
+            .version(book.getVersion() + 1)
+            .build();
+        store(previous, updated);
+        return updated;
+    }
+
+    @Override
+    public Optional<BookUpdate> updateIfMatches(Book book, Long expectedVersion) {
+        Book previous = books.get(book.getId());
+        if (previous == null || (expectedVersion != null && !expectedVersion.equals(previous.getVersion()))) {
+            return Optional.empty();
+        }
+        book.setVersion(previous.getVersion());
+        return Optional.of(new BookUpdate(previous, update(book)));
+    }
+
+    @Override
+    public List<Book> updateAll(List<Book> batch) {
+        return batch.stream().map(this::update).toList();
+    }
+
+    @Override
+    public Optional<Book> deleteById(Long id) {
+        Book removed = books.remove(id);
+        if (removed != null) {
+            idsByTitle.remove(key(removed.getTitle()));
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    @Override
+    public List<Book> deleteAllById(Collection<Long> ids) {
+        return ids.stream().distinct().map(this::deleteById).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public Map<String, Long> findIdsByTitleIgnoreCase(Collection<String> titles) {
+        Map<String, Long> owners = new HashMap<>();
+        titles.forEach(title -> {
+            Long owner = idsByTitle.get(key(title));
+            if (owner != null) {
+                owners.put(key(title), owner);
+            }
+        });
+        return owners;
+    }
+
+    private void store(Book previous, Book current) {
+        if (previous != null) {
+            idsByTitle.remove(key(previous.getTitle()));
+        }
+        books.put(current.getId(), current);
+        idsByTitle.put(key(current.getTitle()), current.getId());
+    }
+
+    private static String key(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,106 @@
+package mn_react.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import io.micronaut.json.JsonMapper;
+
+/**
+ * Machine-readable result of a {@link BookLoadSuite} run and the comparison between two runs.
+ * Latencies are in milliseconds, throughput in requests per second.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private final Map<String, Object> settings;
+    private final Map<String, Map<String, Object>> operations;
+
+    private LoadReport(Map<String, Object> settings, Map<String, Map<String, Object>> operations) {
+        this.settings = settings;
+        this.operations = operations;
+    }
+
+    static LoadReport of(Map<String, Object> settings, Map<String, Histogram> histograms,
+                         Map<String, Long> errors, double seconds) {
+        Map<String, Map<String, Object>> operations = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> {
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("count", histogram.getTotalCount());
+            operation.put("errors", errors.getOrDefault(name, 0L));
+            operation.put("throughput", histogram.getTotalCount() / seconds);
+            for (double percentile : PERCENTILES) {
+                operation.put(key(percentile), histogram.getValueAtPercentile(percentile) / 1e6);
+            }
+            operation.put("max", histogram.getMaxValue() / 1e6);
+            operations.put(name, operation);
+        });
+        return new LoadReport(settings, operations);
+    }
+
+    @SuppressWarnings("unchecked")
+    static LoadReport read(JsonMapper jsonMapper, Path path) throws IOException {
+        Map<String, Object> json = jsonMapper.readValue(Files.readAllBytes(path), Map.class);
+        return new LoadReport((Map<String, Object>) json.get("settings"),
+            (Map<String, Map<String, Object>>) json.get("operations"));
+    }
+
+    void write(JsonMapper jsonMapper, Path path) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settings);
+        json.put("operations", operations);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, jsonMapper.writeValueAsBytes(json));
+    }
+
+    void print() {
+        System.out.printf("%n%-8s %9s %7s %10s %9s %9s %9s %9s%n",
+            "op", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms");
+        operations.forEach((name, operation) -> System.out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+            name, number(operation, "count").longValue(), number(operation, "errors").longValue(),
+            number(operation, "throughput").doubleValue(), number(operation, "p50").doubleValue(),
+            number(operation, "p95").doubleValue(), number(operation, "p99").doubleValue(),
+            number(operation, "p999").doubleValue()));
+    }
+
+    /**
+     * Operations whose p99 grew or throughput dropped by more than {@code tolerancePercent}
+     * relative to {@code baseline}.
+     */
+    List<String> regressionsAgainst(LoadReport baseline, double tolerancePercent) {
+        List<String> regressions = new ArrayList<>();
+        double factor = 1 + tolerancePercent / 100;
+        operations.forEach((name, current) -> {
+            Map<String, Object> previous = baseline.operations.get(name);
+            if (previous == null) {
+                return;
+            }
+            double p99 = number(current, "p99").doubleValue();
+            double baselineP99 = number(previous, "p99").doubleValue();
+            if (p99 > baselineP99 * factor) {
+                regressions.add(String.format("%s p99 %.2f ms -> %.2f ms", name, baselineP99, p99));
+            }
+            double throughput = number(current, "throughput").doubleValue();
+            double baselineThroughput = number(previous, "throughput").doubleValue();
+            if (throughput * factor < baselineThroughput) {
+                regressions.add(String.format("%s throughput %.1f -> %.1f req/s", name, baselineThroughput, throughput));
+            }
+        });
+        return regressions;
+    }
+
+    private static String key(double percentile) {
+        return percentile == 99.9 ? "p999" : "p" + (int) percentile;
+    }
+
+    private static Number number(Map<String, Object> operation, String field) {
+        return (Number) operation.get(field);
+    }
+}
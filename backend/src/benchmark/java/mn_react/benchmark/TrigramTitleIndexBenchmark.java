@@ -0,0 +1,74 @@
+package mn_react.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import mn_react.infrastructure.search.TrigramTitleIndex;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class TrigramTitleIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "shadow", "river", "empire", "garden", "winter", "silent", "forgotten", "crown", "ocean",
+        "letters", "night", "secret", "journey", "stone", "mirror", "house", "storm", "machine"
+    };
+
+    @Param({"1000000"})
+    int titles;
+
+    @Param({"hob", "garden", "winter of the", "zzz"})
+    String term;
+
+    private TrigramTitleIndex index;
+    private String[] lowerTitles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        index = new TrigramTitleIndex();
+        lowerTitles = new String[titles];
+        for (int i = 0; i < titles; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " of the "
+                + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            if (i % 1000 == 0) {
+                title = "The Hobbit " + i;
+            }
+            index.add(i + 1L, title);
+            lowerTitles[i] = title.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Benchmark
+    public long[] trigramIndex() {
+        return index.search(term);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String needle = term.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (String title : lowerTitles) {
+            if (title.contains(needle)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
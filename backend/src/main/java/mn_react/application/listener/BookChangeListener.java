@@ -0,0 +1,15 @@
+package mn_react.application.listener;
+
+import mn_react.domain.entities.Book;
+
+public interface BookChangeListener {
+
+    default void onCreated(Book book) {
+    }
+
+    default void onUpdated(Book previous, Book current) {
+    }
+
+    default void onDeleted(Book book) {
+    }
+}
@@ -0,0 +1,26 @@
+package mn_react.application.listener;
+
+import java.util.List;
+import mn_react.domain.events.BookEvent;
+
+/**
+ * Side effect of a write that the writer does not wait for. Events arrive after commit, in
+ * publication order and in batches, on a thread of their own; a consumer that falls too far
+ * behind loses events according to the configured overflow policy. Anything the next request
+ * must observe belongs in a {@link BookChangeListener} instead.
+ */
+public interface BookEventConsumer {
+
+    void consume(List<BookEvent> events);
+
+    /**
+     * {@code count} events were dropped on the way to this consumer. Called between batches, as
+     * close to where the events were lost as the queues can tell.
+     */
+    default void missed(long count) {
+    }
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
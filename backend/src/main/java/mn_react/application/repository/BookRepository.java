@@ -1,18 +1,27 @@
 package mn_react.application.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import mn_react.domain.entities.Book;
 
 public interface BookRepository {
     List<Book> findAll();
-    List<Book> findAll(int page, int size, String search);
+    Stream<Book> streamAll();
     long count();
     long count(String search);
     Optional<Book> findById(Long id);
+    List<Book> findAllById(Collection<Long> ids);
     Book save(Book book);
-    Book update(Book book);
-    void deleteById(Long id);
-    boolean existsByTitleIgnoreCase(String title);
-    boolean existsByTitleIgnoreCaseAndIdNot(String title, Long id);
+    List<Book> saveAll(List<Book> books);
+    /** Single-statement update; empty when the book is missing or no longer at {@code expectedVersion}. */
+    Optional<BookUpdate> updateIfMatches(Book book, Long expectedVersion);
+    List<Book> updateAll(List<Book> books);
+    /** Single-statement delete returning the removed book; empty when there was none. */
+    Optional<Book> deleteById(Long id);
+    /** Deletes in one transaction and returns the books this call removed. */
+    List<Book> deleteAllById(Collection<Long> ids);
+    Map<String, Long> findIdsByTitleIgnoreCase(Collection<String> titles);
 }
@@ -0,0 +1,12 @@
+package mn_react.application.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import mn_react.domain.entities.Book;
+
+@Getter
+@AllArgsConstructor
+public class BookUpdate {
+    private final Book previous;
+    private final Book current;
+}
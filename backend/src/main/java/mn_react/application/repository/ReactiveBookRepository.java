@@ -0,0 +1,16 @@
+package mn_react.application.repository;
+
+import mn_react.domain.entities.Book;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookRepository {
+    Flux<Book> findAll(int page, int size, String search);
+    Mono<Long> count(String search);
+    Mono<Book> findById(Long id);
+    Mono<Book> save(Book book);
+    Mono<Book> update(Book book);
+    Mono<Book> deleteById(Long id);
+    Mono<Boolean> existsByTitleIgnoreCase(String title);
+    Mono<Boolean> existsByTitleIgnoreCaseAndIdNot(String title, Long id);
+}
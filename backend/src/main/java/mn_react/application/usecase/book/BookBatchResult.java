@@ -0,0 +1,33 @@
+package mn_react.application.usecase.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import mn_react.domain.entities.Book;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BookBatchResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        DUPLICATE,
+        NOT_FOUND,
+        /** Lost a race with a concurrent write to the same title or book. */
+        CONFLICT
+    }
+
+    private int index;
+    private Long id;
+    private Status status;
+    private Book book;
+    private String message;
+
+    public boolean isSuccess() {
+        return status == Status.CREATED || status == Status.UPDATED || status == Status.DELETED;
+    }
+}
@@ -0,0 +1,14 @@
+package mn_react.application.usecase.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BookPatch {
+    private Long id;
+    private String title;
+    private Integer pages;
+}
@@ -0,0 +1,8 @@
+package mn_react.application.usecase.book;
+
+import java.util.List;
+import mn_react.domain.entities.Book;
+
+public interface CreateBookBatchUseCase {
+    List<BookBatchResult> execute(List<Book> books);
+}
@@ -0,0 +1,7 @@
+package mn_react.application.usecase.book;
+
+import java.util.List;
+
+public interface DeleteBookBatchUseCase {
+    List<BookBatchResult> execute(List<Long> ids);
+}
@@ -0,0 +1,7 @@
+package mn_react.application.usecase.book;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDeleteBookUseCase {
+    Mono<Void> execute(Long id);
+}
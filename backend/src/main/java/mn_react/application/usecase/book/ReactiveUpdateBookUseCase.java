@@ -0,0 +1,8 @@
+package mn_react.application.usecase.book;
+
+import mn_react.domain.entities.Book;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUpdateBookUseCase {
+    Mono<Book> execute(Long id, String title, Integer pages);
+}
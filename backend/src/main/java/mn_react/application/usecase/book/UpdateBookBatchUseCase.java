@@ -0,0 +1,7 @@
+package mn_react.application.usecase.book;
+
+import java.util.List;
+
+public interface UpdateBookBatchUseCase {
+    List<BookBatchResult> execute(List<BookPatch> patches);
+}
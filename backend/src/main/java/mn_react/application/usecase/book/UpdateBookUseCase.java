@@ -3,5 +3,9 @@ package mn_react.application.usecase.book;
 import mn_react.domain.entities.Book;
 
 public interface UpdateBookUseCase {
-    Book execute(Long id, String title, Integer pages);
+    Book execute(Long id, String title, Integer pages, Long expectedVersion);
+
+    default Book execute(Long id, String title, Integer pages) {
+        return execute(id, title, pages, null);
+    }
 }
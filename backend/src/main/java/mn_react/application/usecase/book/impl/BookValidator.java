@@ -0,0 +1,43 @@
+package mn_react.application.usecase.book.impl;
+
+import mn_react.domain.exception.ValidationException;
+
+/**
+ * Title and page rules shared by every write use case, single and batch.
+ */
+final class BookValidator {
+
+    private BookValidator() {
+    }
+
+    static void validateTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new ValidationException("Title cannot be empty");
+        }
+        if (title.length() > 200) {
+            throw new ValidationException("Title cannot exceed 200 characters");
+        }
+    }
+
+    static void validatePages(int pages) {
+        validatePages(pages, "Pages cannot exceed 10000");
+    }
+
+    // creates have always explained the limit; updates never did
+    static void validateNewPages(int pages) {
+        validatePages(pages, "Pages cannot exceed 10000 (unrealistic book size)");
+    }
+
+    private static void validatePages(int pages, String tooMany) {
+        if (pages <= 0) {
+            throw new ValidationException("Pages must be greater than 0");
+        }
+        if (pages > 10000) {
+            throw new ValidationException(tooMany);
+        }
+    }
+
+    static String normalizeTitle(String title) {
+        return title.trim().replaceAll("\\s+", " ");
+    }
+}
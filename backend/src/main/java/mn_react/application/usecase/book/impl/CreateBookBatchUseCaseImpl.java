@@ -0,0 +1,113 @@
+package mn_react.application.usecase.book.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.BookBatchResult.Status;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+import mn_react.domain.exception.ValidationException;
+
+public class CreateBookBatchUseCaseImpl implements CreateBookBatchUseCase {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
+
+    public CreateBookBatchUseCaseImpl(BookRepository bookRepository, List<BookChangeListener> listeners) {
+        this.bookRepository = bookRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public List<BookBatchResult> execute(List<Book> books) {
+        BookBatchResult[] results = new BookBatchResult[books.size()];
+        Book[] accepted = new Book[books.size()];
+        Map<String, Integer> candidates = new HashMap<>();
+
+        for (int i = 0; i < books.size(); i++) {
+            Book book = books.get(i);
+            try {
+                BookValidator.validateTitle(book.getTitle());
+                BookValidator.validateNewPages(book.getPages());
+            } catch (ValidationException e) {
+                results[i] = failure(i, Status.INVALID, e.getMessage());
+                continue;
+            }
+            String normalizedTitle = BookValidator.normalizeTitle(book.getTitle());
+            accepted[i] = Book.builder().title(normalizedTitle).pages(book.getPages()).build();
+            if (candidates.putIfAbsent(normalizedTitle.toLowerCase(Locale.ROOT), i) != null) {
+                results[i] = failure(i, Status.DUPLICATE,
+                    "Title '" + normalizedTitle + "' appears more than once in the batch");
+            }
+        }
+
+        Map<String, Long> existing = bookRepository.findIdsByTitleIgnoreCase(candidates.keySet());
+        List<Integer> pending = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (existing.containsKey(candidate.getKey())) {
+                results[index] = failure(index, Status.DUPLICATE,
+                    "A book with title '" + accepted[index].getTitle() + "' already exists");
+            } else {
+                pending.add(index);
+            }
+        }
+        pending.sort(null);
+
+        List<Book> created = null;
+        for (int attempt = 1; created == null; attempt++) {
+            try {
+                created = bookRepository.saveAll(pending.stream().map(index -> accepted[index]).toList());
+            } catch (ConflictException e) {
+                // a concurrent write took a title after the check above and the batch was rolled back
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                pending = withoutTakenTitles(pending, accepted, results);
+            }
+        }
+        for (int i = 0; i < created.size(); i++) {
+            Book book = created.get(i);
+            results[pending.get(i)] = BookBatchResult.builder()
+                .index(pending.get(i))
+                .id(book.getId())
+                .status(Status.CREATED)
+                .book(book)
+                .build();
+            listeners.forEach(listener -> listener.onCreated(book));
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<Integer> withoutTakenTitles(List<Integer> pending, Book[] accepted, BookBatchResult[] results) {
+        Map<String, Long> taken = bookRepository.findIdsByTitleIgnoreCase(
+            pending.stream().map(index -> accepted[index].getTitle()).toList());
+        List<Integer> remaining = new ArrayList<>(pending.size());
+        for (int index : pending) {
+            if (taken.containsKey(accepted[index].getTitle().toLowerCase(Locale.ROOT))) {
+                results[index] = failure(index, Status.CONFLICT,
+                    "A book with title '" + accepted[index].getTitle() + "' was created concurrently");
+            } else {
+                remaining.add(index);
+            }
+        }
+        return remaining;
+    }
+
+    private BookBatchResult failure(int index, Status status, String message) {
+        return BookBatchResult.builder()
+            .index(index)
+            .status(status)
+            .message(message)
+            .build();
+    }
+}
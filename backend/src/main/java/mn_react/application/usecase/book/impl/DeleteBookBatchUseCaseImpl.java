@@ -0,0 +1,45 @@
+package mn_react.application.usecase.book.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.BookBatchResult.Status;
+import mn_react.application.usecase.book.DeleteBookBatchUseCase;
+import mn_react.domain.entities.Book;
+
+public class DeleteBookBatchUseCaseImpl implements DeleteBookBatchUseCase {
+
+    private final BookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
+
+    public DeleteBookBatchUseCaseImpl(BookRepository bookRepository, List<BookChangeListener> listeners) {
+        this.bookRepository = bookRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public List<BookBatchResult> execute(List<Long> ids) {
+        Map<Long, Book> existing = bookRepository.deleteAllById(new LinkedHashSet<>(ids)).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<BookBatchResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            boolean found = existing.containsKey(id);
+            results.add(BookBatchResult.builder()
+                .index(i)
+                .id(id)
+                .status(found ? Status.DELETED : Status.NOT_FOUND)
+                .message(found ? null : "Book not found with id: " + id)
+                .build());
+        }
+        existing.values().forEach(book -> listeners.forEach(listener -> listener.onDeleted(book)));
+        return results;
+    }
+}
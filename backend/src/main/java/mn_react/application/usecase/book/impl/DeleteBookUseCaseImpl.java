@@ -1,22 +1,26 @@
 package mn_react.application.usecase.book.impl;
 
+import java.util.List;
+import mn_react.application.listener.BookChangeListener;
 import mn_react.application.repository.BookRepository;
 import mn_react.application.usecase.book.DeleteBookUseCase;
+import mn_react.domain.entities.Book;
 import mn_react.domain.exception.NotFoundException;
 
 public class DeleteBookUseCaseImpl implements DeleteBookUseCase {
 
     private final BookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
 
-    public DeleteBookUseCaseImpl(BookRepository bookRepository) {
+    public DeleteBookUseCaseImpl(BookRepository bookRepository, List<BookChangeListener> listeners) {
         this.bookRepository = bookRepository;
+        this.listeners = listeners;
     }
 
     @Override
     public void execute(Long id) {
-        if (!bookRepository.findById(id).isPresent()) {
-            throw new NotFoundException("Book not found with id: " + id);
-        }
-        bookRepository.deleteById(id);
+        Book deletedBook = bookRepository.deleteById(id)
+            .orElseThrow(() -> new NotFoundException("Book not found with id: " + id));
+        listeners.forEach(listener -> listener.onDeleted(deletedBook));
     }
 }
@@ -0,0 +1,43 @@
+package mn_react.application.usecase.book.impl;
+
+import java.util.List;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.application.usecase.book.ReactiveCreateBookUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class ReactiveCreateBookUseCaseImpl implements ReactiveCreateBookUseCase {
+
+    private final ReactiveBookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
+
+    public ReactiveCreateBookUseCaseImpl(ReactiveBookRepository bookRepository, List<BookChangeListener> listeners) {
+        this.bookRepository = bookRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Mono<Book> execute(String title, int pages) {
+        return Mono.defer(() -> {
+            BookValidator.validateTitle(title);
+            BookValidator.validateNewPages(pages);
+
+            String normalizedTitle = BookValidator.normalizeTitle(title);
+            Book newBook = Book.builder()
+                .title(normalizedTitle)
+                .pages(pages)
+                .build();
+
+            return bookRepository.existsByTitleIgnoreCase(normalizedTitle)
+                .flatMap(exists -> exists
+                    ? Mono.error(new ConflictException("A book with title '" + normalizedTitle + "' already exists"))
+                    : bookRepository.save(newBook))
+                // listeners may block, so they run off the R2DBC event loop
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(created -> listeners.forEach(listener -> listener.onCreated(created)));
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package mn_react.application.usecase.book.impl;
+
+import java.util.List;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.application.usecase.book.ReactiveDeleteBookUseCase;
+import mn_react.domain.exception.NotFoundException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class ReactiveDeleteBookUseCaseImpl implements ReactiveDeleteBookUseCase {
+
+    private final ReactiveBookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
+
+    public ReactiveDeleteBookUseCaseImpl(ReactiveBookRepository bookRepository, List<BookChangeListener> listeners) {
+        this.bookRepository = bookRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Mono<Void> execute(Long id) {
+        return bookRepository.deleteById(id)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Book not found with id: " + id)))
+            // listeners may block, so they run off the R2DBC event loop
+            .flatMap(deletedBook -> Mono
+                .fromRunnable(() -> listeners.forEach(listener -> listener.onDeleted(deletedBook)))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .then();
+    }
+}
@@ -0,0 +1,51 @@
+package mn_react.application.usecase.book.impl;
+
+import java.util.List;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.application.usecase.book.ReactiveUpdateBookUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+import mn_react.domain.exception.NotFoundException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class ReactiveUpdateBookUseCaseImpl implements ReactiveUpdateBookUseCase {
+
+    private final ReactiveBookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
+
+    public ReactiveUpdateBookUseCaseImpl(ReactiveBookRepository bookRepository, List<BookChangeListener> listeners) {
+        this.bookRepository = bookRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Mono<Book> execute(Long id, String title, Integer pages) {
+        return bookRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Book not found with id: " + id)))
+            .flatMap(existingBook -> {
+                BookValidator.validateTitle(title);
+                BookValidator.validatePages(pages);
+
+                String normalizedTitle = BookValidator.normalizeTitle(title);
+                Book updatedBook = Book.builder()
+                    .id(id)
+                    .title(normalizedTitle)
+                    .pages(pages)
+                    .version(existingBook.getVersion())
+                    .build();
+
+                Mono<Boolean> duplicate = existingBook.getTitle().equalsIgnoreCase(normalizedTitle)
+                    ? Mono.just(false)
+                    : bookRepository.existsByTitleIgnoreCaseAndIdNot(normalizedTitle, id);
+                return duplicate
+                    .flatMap(exists -> exists
+                        ? Mono.error(new ConflictException("Book with title '" + normalizedTitle + "' already exists"))
+                        : bookRepository.update(updatedBook))
+                    // listeners may block, so they run off the R2DBC event loop
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(updated -> listeners.forEach(listener -> listener.onUpdated(existingBook, updated)));
+            });
+    }
+}
@@ -0,0 +1,138 @@
+package mn_react.application.usecase.book.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.BookBatchResult.Status;
+import mn_react.application.usecase.book.BookPatch;
+import mn_react.application.usecase.book.UpdateBookBatchUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+import mn_react.domain.exception.ValidationException;
+
+public class UpdateBookBatchUseCaseImpl implements UpdateBookBatchUseCase {
+
+    private final BookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
+
+    public UpdateBookBatchUseCaseImpl(BookRepository bookRepository, List<BookChangeListener> listeners) {
+        this.bookRepository = bookRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public List<BookBatchResult> execute(List<BookPatch> patches) {
+        Set<Long> ids = patches.stream().map(BookPatch::getId).collect(Collectors.toSet());
+        Map<Long, Book> existing = bookRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        BookBatchResult[] results = new BookBatchResult[patches.size()];
+        Book[] changes = new Book[patches.size()];
+        Set<Long> seenIds = new HashSet<>();
+        Map<String, Integer> renamed = new HashMap<>();
+
+        for (int i = 0; i < patches.size(); i++) {
+            BookPatch patch = patches.get(i);
+            Book current = existing.get(patch.getId());
+            if (current == null) {
+                results[i] = failure(i, patch.getId(), Status.NOT_FOUND,
+                    "Book not found with id: " + patch.getId());
+                continue;
+            }
+            if (!seenIds.add(patch.getId())) {
+                results[i] = failure(i, patch.getId(), Status.INVALID,
+                    "Book id " + patch.getId() + " appears more than once in the batch");
+                continue;
+            }
+            String title = patch.getTitle() == null ? current.getTitle() : patch.getTitle();
+            int pages = patch.getPages() == null ? current.getPages() : patch.getPages();
+            try {
+                BookValidator.validateTitle(title);
+                BookValidator.validatePages(pages);
+            } catch (ValidationException e) {
+                results[i] = failure(i, patch.getId(), Status.INVALID, e.getMessage());
+                continue;
+            }
+            String normalizedTitle = BookValidator.normalizeTitle(title);
+            changes[i] = Book.builder()
+                .id(current.getId())
+                .title(normalizedTitle)
+                .pages(pages)
+                .version(current.getVersion())
+                .build();
+            if (!current.getTitle().equalsIgnoreCase(normalizedTitle)
+                    && renamed.putIfAbsent(normalizedTitle.toLowerCase(Locale.ROOT), i) != null) {
+                results[i] = failure(i, patch.getId(), Status.DUPLICATE,
+                    "Title '" + normalizedTitle + "' appears more than once in the batch");
+                changes[i] = null;
+            }
+        }
+
+        Map<String, Long> owners = bookRepository.findIdsByTitleIgnoreCase(renamed.keySet());
+        renamed.forEach((title, index) -> {
+            Long owner = owners.get(title);
+            if (owner != null && !owner.equals(changes[index].getId())) {
+                results[index] = failure(index, changes[index].getId(), Status.DUPLICATE,
+                    "A book with title '" + changes[index].getTitle() + "' already exists");
+                changes[index] = null;
+            }
+        });
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < changes.length; i++) {
+            if (changes[i] != null) {
+                pending.add(i);
+            }
+        }
+        try {
+            List<Book> updated = bookRepository.updateAll(pending.stream().map(index -> changes[index]).toList());
+            for (int i = 0; i < updated.size(); i++) {
+                Book book = updated.get(i);
+                succeeded(pending.get(i), existing.get(book.getId()), book, results);
+            }
+        } catch (ConflictException e) {
+            // a concurrent write rolled the batch back; one statement per book shows which ones lost the race
+            for (int index : pending) {
+                Long id = changes[index].getId();
+                try {
+                    bookRepository.updateIfMatches(changes[index], changes[index].getVersion()).ifPresentOrElse(
+                        update -> succeeded(index, update.getPrevious(), update.getCurrent(), results),
+                        () -> results[index] = failure(index, id, Status.CONFLICT,
+                            "Book " + id + " was modified or deleted concurrently"));
+                } catch (ConflictException titleTaken) {
+                    results[index] = failure(index, id, Status.CONFLICT, titleTaken.getMessage());
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private void succeeded(int index, Book previous, Book book, BookBatchResult[] results) {
+        results[index] = BookBatchResult.builder()
+            .index(index)
+            .id(book.getId())
+            .status(Status.UPDATED)
+            .book(book)
+            .build();
+        listeners.forEach(listener -> listener.onUpdated(previous, book));
+    }
+
+    private BookBatchResult failure(int index, Long id, Status status, String message) {
+        return BookBatchResult.builder()
+            .index(index)
+            .id(id)
+            .status(status)
+            .message(message)
+            .build();
+    }
+}
@@ -1,68 +1,47 @@
 package mn_react.application.usecase.book.impl;
 
+import java.util.List;
+import mn_react.application.listener.BookChangeListener;
 import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
 import mn_react.application.usecase.book.UpdateBookUseCase;
 import mn_react.domain.entities.Book;
-import mn_react.domain.exception.ConflictException;
 import mn_react.domain.exception.NotFoundException;
-import mn_react.domain.exception.ValidationException;
+import mn_react.domain.exception.PreconditionFailedException;
 
 public class UpdateBookUseCaseImpl implements UpdateBookUseCase {
 
     private final BookRepository bookRepository;
+    private final List<BookChangeListener> listeners;
 
-    public UpdateBookUseCaseImpl(BookRepository bookRepository) {
+    public UpdateBookUseCaseImpl(BookRepository bookRepository, List<BookChangeListener> listeners) {
         this.bookRepository = bookRepository;
+        this.listeners = listeners;
     }
 
     @Override
-    public Book execute(Long id, String title, Integer pages) {
-        Book existingBook = bookRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Book not found with id: " + id));
-
-        validateTitle(title);
-        validatePages(pages);
-
-        String normalizedTitle = normalizeTitle(title);
-        
-        if (!existingBook.getTitle().equalsIgnoreCase(normalizedTitle)) {
-            checkForDuplicates(normalizedTitle, id);
-        }
+    public Book execute(Long id, String title, Integer pages, Long expectedVersion) {
+        BookValidator.validateTitle(title);
+        BookValidator.validatePages(pages);
 
         Book updatedBook = Book.builder()
             .id(id)
-            .title(normalizedTitle)
+            .title(BookValidator.normalizeTitle(title))
             .pages(pages)
             .build();
 
-        return bookRepository.update(updatedBook);
-    }
-
-    private void validateTitle(String title) {
-        if (title == null || title.trim().isEmpty()) {
-            throw new ValidationException("Title cannot be empty");
-        }
-        if (title.length() > 200) {
-            throw new ValidationException("Title cannot exceed 200 characters");
-        }
-    }
-
-    private void validatePages(int pages) {
-        if (pages <= 0) {
-            throw new ValidationException("Pages must be greater than 0");
-        }
-        if (pages > 10000) {
-            throw new ValidationException("Pages cannot exceed 10000");
-        }
-    }
-
-    private String normalizeTitle(String title) {
-        return title.trim().replaceAll("\\s+", " ");
+        // duplicate titles are rejected by the unique index, surfacing as a ConflictException
+        BookUpdate update = bookRepository.updateIfMatches(updatedBook, expectedVersion)
+            .orElseThrow(() -> missingOrModified(id, expectedVersion));
+        listeners.forEach(listener -> listener.onUpdated(update.getPrevious(), update.getCurrent()));
+        return update.getCurrent();
     }
 
-    private void checkForDuplicates(String title, Long excludeId) {
-        if (bookRepository.existsByTitleIgnoreCaseAndIdNot(title, excludeId)) {
-            throw new ConflictException("Book with title '" + title + "' already exists");
+    // only reached when the update matched no row
+    private RuntimeException missingOrModified(Long id, Long expectedVersion) {
+        if (bookRepository.findById(id).isEmpty()) {
+            return new NotFoundException("Book not found with id: " + id);
         }
+        return new PreconditionFailedException("Book " + id + " has been modified since version " + expectedVersion);
     }
 }
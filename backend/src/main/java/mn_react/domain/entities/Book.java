@@ -15,4 +15,5 @@ public class Book {
     private Long id;
     private String title;
     private int pages;
+    private Long version;
 }
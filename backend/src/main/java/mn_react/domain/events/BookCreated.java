@@ -0,0 +1,10 @@
+package mn_react.domain.events;
+
+import mn_react.domain.entities.Book;
+
+public record BookCreated(Book book) implements BookEvent {
+
+    public BookCreated {
+        book = BookEvent.snapshot(book);
+    }
+}
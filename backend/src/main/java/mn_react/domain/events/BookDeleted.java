@@ -0,0 +1,10 @@
+package mn_react.domain.events;
+
+import mn_react.domain.entities.Book;
+
+public record BookDeleted(Book book) implements BookEvent {
+
+    public BookDeleted {
+        book = BookEvent.snapshot(book);
+    }
+}
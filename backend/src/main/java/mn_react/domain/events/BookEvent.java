@@ -0,0 +1,21 @@
+package mn_react.domain.events;
+
+import mn_react.domain.entities.Book;
+
+/**
+ * A committed change to a book. Events are handled after the write has returned, so each one
+ * holds its own copy of the book rather than the instance the writer may still modify.
+ */
+public sealed interface BookEvent permits BookCreated, BookUpdated, BookDeleted {
+
+    Book book();
+
+    static Book snapshot(Book book) {
+        return book == null ? null : Book.builder()
+            .id(book.getId())
+            .title(book.getTitle())
+            .pages(book.getPages())
+            .version(book.getVersion())
+            .build();
+    }
+}
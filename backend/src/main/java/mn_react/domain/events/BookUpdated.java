@@ -0,0 +1,11 @@
+package mn_react.domain.events;
+
+import mn_react.domain.entities.Book;
+
+public record BookUpdated(Book previous, Book book) implements BookEvent {
+
+    public BookUpdated {
+        previous = BookEvent.snapshot(previous);
+        book = BookEvent.snapshot(book);
+    }
+}
@@ -0,0 +1,8 @@
+package mn_react.domain.exception;
+
+public class PreconditionFailedException extends DomainException {
+    
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
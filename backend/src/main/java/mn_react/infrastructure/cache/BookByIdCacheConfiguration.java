@@ -0,0 +1,16 @@
+package mn_react.infrastructure.cache;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.by-id-cache")
+public class BookByIdCacheConfiguration {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,116 @@
+package mn_react.infrastructure.cache;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.cache.BookCountCacheConfiguration.Mode;
+
+/**
+ * List totals by search term, kept current by this instance's writes only. Writes through
+ * another instance show up after {@code expire-after-write}, so it is for single-node deployments.
+ */
+@Singleton
+public class BookCountCache implements BookChangeListener {
+
+    private final BookCountCacheConfiguration configuration;
+    private final Cache<String, Long> cache;
+    private final AtomicLong writes = new AtomicLong();
+
+    public BookCountCache(BookCountCacheConfiguration configuration) {
+        this.configuration = configuration;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getExpireAfterWrite())
+            .recordStats()
+            .build();
+    }
+
+    public long get(String search, LongSupplier counter) {
+        if (!configuration.isEnabled()) {
+            return counter.getAsLong();
+        }
+        String key = normalize(search);
+        Long cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = writes.get();
+        long total = counter.getAsLong();
+        // a write that raced with the count may not be reflected in it
+        if (writes.get() == generation) {
+            cache.put(key, total);
+        }
+        return total;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void onCreated(Book book) {
+        writes.incrementAndGet();
+        String title = normalize(book.getTitle());
+        cache.asMap().keySet().forEach(key -> {
+            if (matches(title, key)) {
+                adjust(key, 1);
+            }
+        });
+    }
+
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        writes.incrementAndGet();
+        String before = normalize(previous.getTitle());
+        String after = normalize(current.getTitle());
+        cache.asMap().keySet().forEach(key -> {
+            boolean matchedBefore = matches(before, key);
+            boolean matchesAfter = matches(after, key);
+            if (matchedBefore != matchesAfter) {
+                adjust(key, matchesAfter ? 1 : -1);
+            }
+        });
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        writes.incrementAndGet();
+        String title = normalize(book.getTitle());
+        cache.asMap().keySet().forEach(key -> {
+            if (matches(title, key)) {
+                adjust(key, -1);
+            }
+        });
+    }
+
+    private void adjust(String key, long delta) {
+        if (configuration.getMode() == Mode.ESTIMATED && !hasWildcards(key)) {
+            cache.asMap().computeIfPresent(key, (k, total) -> Math.max(0, total + delta));
+        } else {
+            cache.invalidate(key);
+        }
+    }
+
+    private static boolean matches(String title, String key) {
+        // wildcard terms are not evaluated here, so any write may affect them
+        return key.isEmpty() || hasWildcards(key) || title.contains(key);
+    }
+
+    private static boolean hasWildcards(String key) {
+        return key.indexOf('%') >= 0 || key.indexOf('_') >= 0 || key.indexOf('\\') >= 0;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package mn_react.infrastructure.cache;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.count-cache")
+public class BookCountCacheConfiguration {
+
+    public enum Mode {
+        EXACT,
+        ESTIMATED
+    }
+
+    private boolean enabled = true;
+    private Mode mode = Mode.EXACT;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
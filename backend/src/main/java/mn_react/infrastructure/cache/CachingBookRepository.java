@@ -0,0 +1,159 @@
+package mn_react.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+
+public class CachingBookRepository implements BookRepository, BookChangeListener {
+
+    private final BookRepository delegate;
+    private final BookReadRouter router;
+    private final Cache<Long, Book> byId;
+
+    public CachingBookRepository(
+        BookRepository delegate,
+        BookReadRouter router,
+        BookByIdCacheConfiguration configuration
+    ) {
+        this.delegate = delegate;
+        this.router = router;
+        this.byId = Caffeine.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getExpireAfterWrite())
+            .recordStats()
+            .build();
+    }
+
+    public CacheStats stats() {
+        return byId.stats();
+    }
+
+    public long size() {
+        return byId.estimatedSize();
+    }
+
+    // writes that bypass this decorator, such as the reactive adapter, still reach the cache here
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        byId.put(current.getId(), copy(current));
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        byId.invalidate(book.getId());
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        Book cached = byId.get(id, key -> router.readForCache(() -> delegate.findById(key).orElse(null)));
+        return Optional.ofNullable(cached).map(CachingBookRepository::copy);
+    }
+
+    @Override
+    public Book save(Book book) {
+        Book saved = delegate.save(book);
+        byId.put(saved.getId(), copy(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Book> saveAll(List<Book> books) {
+        List<Book> saved = delegate.saveAll(books);
+        saved.forEach(book -> byId.put(book.getId(), copy(book)));
+        return saved;
+    }
+
+    @Override
+    public Optional<BookUpdate> updateIfMatches(Book book, Long expectedVersion) {
+        try {
+            Optional<BookUpdate> update = delegate.updateIfMatches(book, expectedVersion);
+            update.ifPresentOrElse(
+                changed -> byId.put(book.getId(), copy(changed.getCurrent())),
+                () -> byId.invalidate(book.getId()));
+            return update;
+        } catch (RuntimeException e) {
+            byId.invalidate(book.getId());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Book> updateAll(List<Book> books) {
+        try {
+            List<Book> updated = delegate.updateAll(books);
+            updated.forEach(book -> byId.put(book.getId(), copy(book)));
+            return updated;
+        } catch (RuntimeException e) {
+            byId.invalidateAll(books.stream().map(Book::getId).toList());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Book> deleteAllById(Collection<Long> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            byId.invalidateAll(ids);
+        }
+    }
+
+    @Override
+    public List<Book> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Book> deleteById(Long id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            byId.invalidate(id);
+        }
+    }
+
+    @Override
+    public List<Book> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Book> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long count(String search) {
+        return delegate.count(search);
+    }
+
+    @Override
+    public Map<String, Long> findIdsByTitleIgnoreCase(Collection<String> titles) {
+        return delegate.findIdsByTitleIgnoreCase(titles);
+    }
+
+    // Domain books are mutable, so callers never share the cached instance
+    private static Book copy(Book book) {
+        return Book.builder()
+            .id(book.getId())
+            .title(book.getTitle())
+            .pages(book.getPages())
+            .version(book.getVersion())
+            .build();
+    }
+}
@@ -0,0 +1,41 @@
+package mn_react.infrastructure.config.factories;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.execution.BookExecutionConfiguration;
+
+@Factory
+public class BookExecutorFactory {
+
+    private ExecutorService ownedExecutor;
+
+    @Singleton
+    @Named(BookExecutionConfiguration.EXECUTOR)
+    ExecutorService booksExecutor(BookExecutionConfiguration configuration, BeanLocator beanLocator) {
+        ownedExecutor = switch (configuration.getMode()) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("books-virtual-", 0).factory());
+            case PLATFORM -> Executors.newFixedThreadPool(configuration.getPlatformThreads(),
+                Thread.ofPlatform().name("books-platform-", 0).factory());
+            case IO -> null;
+        };
+        return ownedExecutor != null
+            ? ownedExecutor
+            : beanLocator.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.IO));
+    }
+
+    // the shared io executor belongs to Micronaut and is shut down by it
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
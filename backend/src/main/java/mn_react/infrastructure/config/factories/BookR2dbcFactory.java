@@ -0,0 +1,32 @@
+package mn_react.infrastructure.config.factories;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.persistence.r2dbc.BookR2dbcConfiguration;
+
+@Factory
+@Requires(property = "books.reactive.enabled", value = "true")
+public class BookR2dbcFactory {
+
+    // named so the micrometer r2dbc pool binder can tag its gauges
+    @Singleton
+    @Named("books")
+    @Bean(preDestroy = "dispose")
+    ConnectionPool connectionPool(BookR2dbcConfiguration configuration) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(configuration.getUrl()).mutate()
+            .option(ConnectionFactoryOptions.USER, configuration.getUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, configuration.getPassword())
+            .build();
+        return new ConnectionPool(ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get(options))
+            .maxSize(configuration.getMaxPoolSize())
+            .build());
+    }
+}
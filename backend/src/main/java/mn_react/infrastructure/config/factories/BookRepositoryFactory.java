@@ -0,0 +1,38 @@
+package mn_react.infrastructure.config.factories;
+
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.cache.BookByIdCacheConfiguration;
+import mn_react.infrastructure.cache.CachingBookRepository;
+import mn_react.infrastructure.metrics.BookMetrics;
+import mn_react.infrastructure.metrics.MeteredBookRepository;
+import mn_react.infrastructure.persistence.BookRepositoryImpl;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+
+@Factory
+public class BookRepositoryFactory {
+
+    @Primary
+    @Singleton
+    @Requires(property = "books.by-id-cache.enabled", notEquals = "false")
+    CachingBookRepository cachingBookRepository(
+        BookRepositoryImpl bookRepository,
+        BookReadRouter router,
+        BookByIdCacheConfiguration configuration,
+        BookMetrics metrics
+    ) {
+        return new CachingBookRepository(new MeteredBookRepository(bookRepository, metrics), router, configuration);
+    }
+
+    @Primary
+    @Singleton
+    @Requires(property = "books.by-id-cache.enabled", value = "false")
+    MeteredBookRepository meteredBookRepository(
+        BookRepositoryImpl bookRepository,
+        BookMetrics metrics
+    ) {
+        return new MeteredBookRepository(bookRepository, metrics);
+    }
+}
@@ -1,30 +1,92 @@
 package mn_react.infrastructure.config.factories;
 
+import java.util.List;
 import io.micronaut.context.annotation.Factory;
 import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
 import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
 import mn_react.application.usecase.book.CreateBookUseCase;
+import mn_react.application.usecase.book.DeleteBookBatchUseCase;
 import mn_react.application.usecase.book.DeleteBookUseCase;
+import mn_react.application.usecase.book.UpdateBookBatchUseCase;
 import mn_react.application.usecase.book.UpdateBookUseCase;
+import mn_react.application.usecase.book.impl.CreateBookBatchUseCaseImpl;
 import mn_react.application.usecase.book.impl.CreateBookUseCaseImpl;
+import mn_react.application.usecase.book.impl.DeleteBookBatchUseCaseImpl;
 import mn_react.application.usecase.book.impl.DeleteBookUseCaseImpl;
+import mn_react.application.usecase.book.impl.UpdateBookBatchUseCaseImpl;
 import mn_react.application.usecase.book.impl.UpdateBookUseCaseImpl;
+import mn_react.infrastructure.metrics.BookMetrics;
+import mn_react.infrastructure.metrics.OperationTimer;
 
 @Factory
 public class BookUseCaseFactory {
 
     @Singleton
-    CreateBookUseCase createBookUseCase(BookRepository bookRepository) {
-        return new CreateBookUseCaseImpl(bookRepository);
+    CreateBookUseCase createBookUseCase(
+        BookRepository bookRepository,
+        List<BookChangeListener> listeners,
+        BookMetrics metrics
+    ) {
+        CreateBookUseCase useCase = new CreateBookUseCaseImpl(bookRepository, listeners);
+        OperationTimer timer = metrics.timer(BookMetrics.USE_CASE, "create");
+        return (title, pages) -> timer.record(() -> useCase.execute(title, pages));
     }
 
     @Singleton
-    UpdateBookUseCase updateBookUseCase(BookRepository bookRepository) {
-        return new UpdateBookUseCaseImpl(bookRepository);
+    CreateBookBatchUseCase createBookBatchUseCase(
+        BookRepository bookRepository,
+        List<BookChangeListener> listeners,
+        BookMetrics metrics
+    ) {
+        CreateBookBatchUseCase useCase = new CreateBookBatchUseCaseImpl(bookRepository, listeners);
+        OperationTimer timer = metrics.timer(BookMetrics.USE_CASE, "createBatch");
+        return books -> timer.record(() -> useCase.execute(books));
     }
 
     @Singleton
-    DeleteBookUseCase deleteBookUseCase(BookRepository bookRepository) {
-        return new DeleteBookUseCaseImpl(bookRepository);
+    UpdateBookUseCase updateBookUseCase(
+        BookRepository bookRepository,
+        List<BookChangeListener> listeners,
+        BookMetrics metrics
+    ) {
+        UpdateBookUseCase useCase = new UpdateBookUseCaseImpl(bookRepository, listeners);
+        OperationTimer timer = metrics.timer(BookMetrics.USE_CASE, "update");
+        return (id, title, pages, expectedVersion) ->
+            timer.record(() -> useCase.execute(id, title, pages, expectedVersion));
+    }
+
+    @Singleton
+    UpdateBookBatchUseCase updateBookBatchUseCase(
+        BookRepository bookRepository,
+        List<BookChangeListener> listeners,
+        BookMetrics metrics
+    ) {
+        UpdateBookBatchUseCase useCase = new UpdateBookBatchUseCaseImpl(bookRepository, listeners);
+        OperationTimer timer = metrics.timer(BookMetrics.USE_CASE, "updateBatch");
+        return patches -> timer.record(() -> useCase.execute(patches));
+    }
+
+    @Singleton
+    DeleteBookBatchUseCase deleteBookBatchUseCase(
+        BookRepository bookRepository,
+        List<BookChangeListener> listeners,
+        BookMetrics metrics
+    ) {
+        DeleteBookBatchUseCase useCase = new DeleteBookBatchUseCaseImpl(bookRepository, listeners);
+        OperationTimer timer = metrics.timer(BookMetrics.USE_CASE, "deleteBatch");
+        return ids -> timer.record(() -> useCase.execute(ids));
+    }
+
+    @Singleton
+    DeleteBookUseCase deleteBookUseCase(
+        BookRepository bookRepository,
+        List<BookChangeListener> listeners,
+        BookMetrics metrics
+    ) {
+        DeleteBookUseCase useCase = new DeleteBookUseCaseImpl(bookRepository, listeners);
+        OperationTimer timer = metrics.timer(BookMetrics.USE_CASE, "delete");
+        return id -> timer.run(() -> useCase.execute(id));
     }
 }
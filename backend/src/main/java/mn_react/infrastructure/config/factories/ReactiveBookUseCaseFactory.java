@@ -0,0 +1,43 @@
+package mn_react.infrastructure.config.factories;
+
+import java.util.List;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.application.usecase.book.ReactiveCreateBookUseCase;
+import mn_react.application.usecase.book.ReactiveDeleteBookUseCase;
+import mn_react.application.usecase.book.ReactiveUpdateBookUseCase;
+import mn_react.application.usecase.book.impl.ReactiveCreateBookUseCaseImpl;
+import mn_react.application.usecase.book.impl.ReactiveDeleteBookUseCaseImpl;
+import mn_react.application.usecase.book.impl.ReactiveUpdateBookUseCaseImpl;
+
+@Factory
+@Requires(bean = ReactiveBookRepository.class)
+public class ReactiveBookUseCaseFactory {
+
+    @Singleton
+    ReactiveCreateBookUseCase reactiveCreateBookUseCase(
+        ReactiveBookRepository bookRepository,
+        List<BookChangeListener> listeners
+    ) {
+        return new ReactiveCreateBookUseCaseImpl(bookRepository, listeners);
+    }
+
+    @Singleton
+    ReactiveUpdateBookUseCase reactiveUpdateBookUseCase(
+        ReactiveBookRepository bookRepository,
+        List<BookChangeListener> listeners
+    ) {
+        return new ReactiveUpdateBookUseCaseImpl(bookRepository, listeners);
+    }
+
+    @Singleton
+    ReactiveDeleteBookUseCase reactiveDeleteBookUseCase(
+        ReactiveBookRepository bookRepository,
+        List<BookChangeListener> listeners
+    ) {
+        return new ReactiveDeleteBookUseCaseImpl(bookRepository, listeners);
+    }
+}
@@ -0,0 +1,195 @@
+package mn_react.infrastructure.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookEventConsumer;
+import mn_react.domain.events.BookEvent;
+
+/**
+ * Carries committed {@link BookEvent}s to the {@link BookEventConsumer}s on a dedicated pool.
+ * Publishing is one offer into a bounded lock-free queue, so a writer pays the same whatever the
+ * number of consumers. A dispatcher task fans the queue out to one bounded queue per consumer,
+ * and each consumer drains its own queue in batches; a slow consumer only delays itself.
+ *
+ * Events dropped by a full queue are reported to the consumers they did not reach through
+ * {@link BookEventConsumer#missed}, so a gap is never silent.
+ *
+ * On shutdown publishing stops and whatever is queued is delivered for up to
+ * {@code drain-timeout}.
+ */
+@Singleton
+public class BookEventBus {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookEventBus.class);
+
+    private final BookEventConfiguration configuration;
+    private final BoundedEventQueue queue;
+    private final List<Worker> workers;
+    private final ExecutorService executor;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong lost = new AtomicLong();
+    private final Counter dropped;
+    private volatile boolean closed;
+
+    public BookEventBus(BookEventConfiguration configuration, List<BookEventConsumer> consumers, MeterRegistry registry) {
+        this.configuration = configuration;
+        this.queue = new BoundedEventQueue(configuration.getCapacity(), configuration.getOverflow());
+        this.executor = Executors.newFixedThreadPool(Math.max(1, configuration.getThreads()),
+            Thread.ofPlatform().name("books-events-", 0).daemon(true).factory());
+        this.dropped = Counter.builder("books.events.dropped").tag("consumer", "queue").register(registry);
+        this.workers = consumers.stream().map(consumer -> new Worker(consumer, registry)).toList();
+        registry.gauge("books.events.queued", queue, BoundedEventQueue::size);
+    }
+
+    public void publish(BookEvent event) {
+        if (workers.isEmpty()) {
+            return;
+        }
+        if (closed) {
+            LOG.warn("Book event bus is shut down, dropping {}", event);
+            dropped.increment();
+            return;
+        }
+        if (!queue.offer(new Envelope(published.incrementAndGet(), event, System.nanoTime()))) {
+            dropped.increment();
+            lost.incrementAndGet();
+        }
+        if (dispatching.compareAndSet(false, true)) {
+            executor.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        do {
+            Envelope envelope;
+            while ((envelope = queue.poll()) != null) {
+                long missed = lost.getAndSet(0);
+                for (Worker worker : workers) {
+                    worker.offer(envelope, missed);
+                }
+            }
+            dispatching.set(false);
+        } while (!queue.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+        long deadline = System.nanoTime() + configuration.getDrainTimeout().toNanos();
+        try {
+            while (!isDrained() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!isDrained()) {
+            LOG.warn("Book events not delivered before shutdown: {} queued, {} in consumer queues",
+                queue.size(), workers.stream().mapToInt(worker -> worker.queue.size()).sum());
+        }
+        executor.shutdownNow();
+    }
+
+    private boolean isDrained() {
+        return queue.isEmpty() && !dispatching.get() && workers.stream().allMatch(Worker::isIdle);
+    }
+
+    record Envelope(long sequence, BookEvent event, long publishedNanos) {
+    }
+
+    private final class Worker {
+
+        private final BookEventConsumer consumer;
+        private final BoundedEventQueue queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong missed = new AtomicLong();
+        private final Counter dropped;
+        private final Counter failures;
+        private final Timer delay;
+
+        Worker(BookEventConsumer consumer, MeterRegistry registry) {
+            this.consumer = consumer;
+            this.queue = new BoundedEventQueue(configuration.getConsumerCapacity(), configuration.getOverflow());
+            this.dropped = Counter.builder("books.events.dropped").tag("consumer", consumer.name()).register(registry);
+            this.failures = Counter.builder("books.events.failures").tag("consumer", consumer.name()).register(registry);
+            this.delay = Timer.builder("books.events.delay").tag("consumer", consumer.name()).register(registry);
+            // events published but not yet handled by this consumer, including the shared queue
+            registry.gauge("books.events.lag", Tags.of("consumer", consumer.name()),
+                this, worker -> published.get() - worker.processed.get());
+        }
+
+        void offer(Envelope envelope, long missedBefore) {
+            if (missedBefore > 0) {
+                missed.addAndGet(missedBefore);
+            }
+            if (!queue.offer(envelope)) {
+                dropped.increment();
+                missed.incrementAndGet();
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        boolean isIdle() {
+            return queue.isEmpty() && !scheduled.get();
+        }
+
+        // one batch per task, so consumers sharing the pool take turns
+        private void drain() {
+            long gap = missed.getAndSet(0);
+            if (gap > 0) {
+                try {
+                    consumer.missed(gap);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    LOG.error("Book event consumer {} failed on {} missed events", consumer.name(), gap, e);
+                }
+            }
+            List<BookEvent> batch = new ArrayList<>(Math.min(configuration.getBatchSize(), queue.size() + 1));
+            Envelope envelope = null;
+            long oldest = 0;
+            Envelope next;
+            while (batch.size() < configuration.getBatchSize() && (next = queue.poll()) != null) {
+                if (batch.isEmpty()) {
+                    oldest = next.publishedNanos();
+                }
+                batch.add(next.event());
+                envelope = next;
+            }
+            if (envelope != null) {
+                try {
+                    consumer.consume(batch);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    LOG.error("Book event consumer {} failed on a batch of {}", consumer.name(), batch.size(), e);
+                }
+                processed.set(envelope.sequence());
+                delay.record(System.nanoTime() - oldest, TimeUnit.NANOSECONDS);
+            }
+            if (!queue.isEmpty()) {
+                executor.execute(this::drain);
+                return;
+            }
+            scheduled.set(false);
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+}
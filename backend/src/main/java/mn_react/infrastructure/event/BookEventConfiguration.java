@@ -0,0 +1,24 @@
+package mn_react.infrastructure.event;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.events")
+public class BookEventConfiguration {
+
+    public enum Overflow {
+        DROP_OLDEST,
+        DROP_LATEST
+    }
+
+    private int capacity = 8192;
+    private int consumerCapacity = 8192;
+    private int batchSize = 256;
+    private Overflow overflow = Overflow.DROP_OLDEST;
+    private int threads = 2;
+    private Duration drainTimeout = Duration.ofSeconds(10);
+}
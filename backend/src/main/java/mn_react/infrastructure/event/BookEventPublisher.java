@@ -0,0 +1,54 @@
+package mn_react.infrastructure.event;
+
+import java.sql.Connection;
+import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.support.TransactionSynchronization;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.domain.entities.Book;
+import mn_react.domain.events.BookCreated;
+import mn_react.domain.events.BookDeleted;
+import mn_react.domain.events.BookEvent;
+import mn_react.domain.events.BookUpdated;
+
+/**
+ * Turns the use cases' change notifications into domain events. A write inside a transaction
+ * publishes when the transaction commits and not at all when it rolls back.
+ */
+@Singleton
+public class BookEventPublisher implements BookChangeListener {
+
+    private final BookEventBus bus;
+    private final TransactionOperations<Connection> transactions;
+
+    public BookEventPublisher(BookEventBus bus, TransactionOperations<Connection> transactions) {
+        this.bus = bus;
+        this.transactions = transactions;
+    }
+
+    @Override
+    public void onCreated(Book book) {
+        publish(new BookCreated(book));
+    }
+
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        publish(new BookUpdated(previous, current));
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        publish(new BookDeleted(book));
+    }
+
+    private void publish(BookEvent event) {
+        transactions.findTransactionStatus().ifPresentOrElse(
+            status -> status.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bus.publish(event);
+                }
+            }),
+            () -> bus.publish(event));
+    }
+}
@@ -0,0 +1,54 @@
+package mn_react.infrastructure.event;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import mn_react.infrastructure.event.BookEventConfiguration.Overflow;
+
+/**
+ * Lock-free queue with a soft bound: the size counter is reserved before the item is linked, so
+ * concurrent producers can never push it past the capacity.
+ */
+final class BoundedEventQueue {
+
+    private final ConcurrentLinkedQueue<BookEventBus.Envelope> items = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+    private final Overflow overflow;
+
+    BoundedEventQueue(int capacity, Overflow overflow) {
+        this.capacity = Math.max(1, capacity);
+        this.overflow = overflow;
+    }
+
+    /**
+     * @return false when an event was dropped to make the offer fit
+     */
+    boolean offer(BookEventBus.Envelope envelope) {
+        if (size.incrementAndGet() > capacity) {
+            if (overflow == Overflow.DROP_LATEST || poll() == null) {
+                size.decrementAndGet();
+                return false;
+            }
+            items.offer(envelope);
+            return false;
+        }
+        items.offer(envelope);
+        return true;
+    }
+
+    BookEventBus.Envelope poll() {
+        BookEventBus.Envelope envelope = items.poll();
+        if (envelope != null) {
+            size.decrementAndGet();
+        }
+        return envelope;
+    }
+
+    boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    int size() {
+        return Math.min(size.get(), capacity);
+    }
+}
@@ -0,0 +1,25 @@
+package mn_react.infrastructure.execution;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.execution")
+public class BookExecutionConfiguration {
+
+    public static final String EXECUTOR = "books";
+
+    public enum Mode {
+        IO,
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private Mode mode = Mode.IO;
+    private int platformThreads = 200;
+    private boolean pinningDiagnostics = true;
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
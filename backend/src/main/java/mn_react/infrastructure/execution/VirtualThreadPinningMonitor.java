@@ -0,0 +1,95 @@
+package mn_react.infrastructure.execution;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events so monitors held across blocking calls
+ * (for example a {@code synchronized} block inside the JDBC driver or pool) show up in the logs
+ * and on the {@code bookexecution} endpoint instead of as unexplained latency.
+ */
+@Singleton
+@Requires(property = "books.execution.mode", value = "VIRTUAL")
+@Requires(property = "books.execution.pinning-diagnostics", notEquals = "false")
+public class VirtualThreadPinningMonitor implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+
+    private final BookExecutionConfiguration configuration;
+    private final Map<String, LongAdder> pinnedByFrame = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(BookExecutionConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(StartupEvent event) {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(configuration.getPinningThreshold()).withStackTrace();
+        stream.onEvent(PINNED, this::record);
+        stream.startAsync();
+        LOG.info("Watching for virtual thread pinning longer than {} ms",
+            configuration.getPinningThreshold().toMillis());
+    }
+
+    public Map<String, Long> pinnedByFrame() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        pinnedByFrame.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+            .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().sum()));
+        return snapshot;
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        String frame = culprit(event.getStackTrace());
+        LongAdder count = pinnedByFrame.computeIfAbsent(frame, key -> new LongAdder());
+        count.increment();
+        // the first sighting is the interesting one; repeats only move the counter
+        if (count.sum() == 1) {
+            LOG.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frame);
+        } else {
+            LOG.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frame);
+        }
+    }
+
+    // the first frame outside the JDK is the code that held the monitor or entered native code
+    private static String culprit(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName();
+    }
+}
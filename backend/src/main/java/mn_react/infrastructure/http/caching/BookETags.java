@@ -0,0 +1,73 @@
+package mn_react.infrastructure.http.caching;
+
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.PreconditionFailedException;
+import mn_react.infrastructure.persistence.BookChangeCounter;
+
+/**
+ * Entity tags for book resources. A single book is tagged by its id and row version.
+ * Collections are tagged by the database's change counter, which a trigger bumps on every
+ * write to the table, whichever node or tool made it.
+ */
+@Singleton
+public class BookETags {
+
+    private final BookChangeCounter changes;
+
+    public BookETags(BookChangeCounter changes) {
+        this.changes = changes;
+    }
+
+    public String forBook(Book book) {
+        return "\"" + book.getId() + "-" + book.getVersion() + "\"";
+    }
+
+    /**
+     * Must be read before the rows it describes are queried, so a write racing the
+     * query leaves the response with an older tag rather than newer data under a stale one.
+     */
+    public String forCollection() {
+        return "\"books-" + changes.current() + "\"";
+    }
+
+    public boolean matchesAny(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || weak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version expected by an {@code If-Match} header for the given book, or null when the
+     * header is absent or {@code *}.
+     */
+    @Nullable
+    public Long expectedVersion(Long id, @Nullable String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException("If-Match does not identify a version of book " + id);
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not identify a version of book " + id);
+        }
+    }
+
+    // If-None-Match uses the weak comparison
+    private static String weak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
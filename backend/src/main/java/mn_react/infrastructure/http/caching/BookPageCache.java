@@ -0,0 +1,124 @@
+package mn_react.infrastructure.http.caching;
+
+import java.util.Locale;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.domain.entities.Book;
+
+/**
+ * Encoded JSON for offset list pages, held off-heap and weighed by size. Caffeine's
+ * frequency-based admission keeps the popular (page, size, search) keys under the budget.
+ *
+ * Entries remember the collection ETag they were rendered under and are only served while
+ * it is still current, so a write racing the render can never be cached as fresh.
+ */
+@Singleton
+public class BookPageCache implements BookChangeListener {
+
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+
+    public BookPageCache(BookPageCacheConfiguration configuration, MeterRegistry registry) {
+        this.enabled = configuration.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(configuration.getMaximumBytes())
+            .weigher((Key key, Entry entry) -> entry.body.capacity())
+            .expireAfterWrite(configuration.getExpireAfterWrite())
+            .removalListener((Key key, Entry entry, RemovalCause cause) -> {
+                if (entry != null) {
+                    entry.body.release();
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "books.page-cache");
+        Gauge.builder("books.page-cache.bytes", this, BookPageCache::weight)
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * A view of the cached body for the caller to write and release, or null on a miss.
+     */
+    @Nullable
+    public ByteBuf get(int page, int size, @Nullable String search, String etag) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(new Key(page, size, normalize(search)));
+        if (entry == null || !entry.etag.equals(etag)) {
+            return null;
+        }
+        try {
+            return entry.body.retainedDuplicate();
+        } catch (IllegalReferenceCountException e) {
+            // invalidated or replaced since the lookup and already released by the removal listener
+            return null;
+        }
+    }
+
+    /**
+     * Caches the encoded page and returns a view of it for the caller to write and release.
+     */
+    public ByteBuf put(int page, int size, @Nullable String search, String etag, byte[] json) {
+        ByteBuf body = Unpooled.directBuffer(json.length).writeBytes(json).asReadOnly();
+        if (!enabled) {
+            return body;
+        }
+        ByteBuf response = body.retainedDuplicate();
+        cache.put(new Key(page, size, normalize(search)), new Entry(etag, body));
+        return response;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long weight() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    @Override
+    public void onCreated(Book book) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        cache.invalidateAll();
+    }
+
+    private static String normalize(@Nullable String search) {
+        return search == null ? "" : search.toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(int page, int size, String search) {
+    }
+
+    private record Entry(String etag, ByteBuf body) {
+    }
+}
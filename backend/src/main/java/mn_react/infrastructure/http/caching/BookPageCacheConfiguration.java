@@ -0,0 +1,16 @@
+package mn_react.infrastructure.http.caching;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.page-cache")
+public class BookPageCacheConfiguration {
+
+    private boolean enabled = true;
+    private long maximumBytes = 16L * 1024 * 1024;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
@@ -0,0 +1,104 @@
+package mn_react.infrastructure.http.caching;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.dto.responses.PagedResponse;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.persistence.routing.ReadRoute;
+
+/**
+ * Single-flight for list pages. Concurrent requests for the same (page, size, search, cursor)
+ * share one execution of the page and count queries, and so one connection at a time instead
+ * of one each; a finished page is still shared for {@code window}.
+ *
+ * The key carries the collection ETag and the read route, so a request never joins a read that
+ * started before a write it has seen, nor a replica read when it must read the primary.
+ */
+@Singleton
+public class BookPageCoalescer {
+
+    private final boolean enabled;
+    private final BookReadRouter router;
+    private final ConcurrentMap<Key, CompletableFuture<PagedResponse<BookResponse>>> flights;
+    private final Counter executed;
+    private final Counter collapsed;
+
+    public BookPageCoalescer(BookPageCoalescingConfiguration configuration, BookReadRouter router, MeterRegistry registry) {
+        this.enabled = configuration.isEnabled();
+        this.router = router;
+        // an in-flight future never expires; the window starts when it completes, and a failed one is dropped
+        AsyncCache<Key, PagedResponse<BookResponse>> cache = Caffeine.newBuilder()
+            .expireAfterWrite(configuration.getWindow())
+            .maximumSize(configuration.getMaximumKeys())
+            .buildAsync();
+        this.flights = cache.asMap();
+        this.executed = registry.counter("books.page-coalescing.executed");
+        this.collapsed = registry.counter("books.page-coalescing.collapsed");
+    }
+
+    public PagedResponse<BookResponse> read(int page, int size, @Nullable String search, @Nullable Long afterId,
+                                            String etag, Supplier<PagedResponse<BookResponse>> query) {
+        return execute(false, new Key(page, size, normalize(search), afterId, etag, router.route(false)), query);
+    }
+
+    public PagedResponse<BookResponse> readForCache(int page, int size, @Nullable String search,
+                                                    String etag, Supplier<PagedResponse<BookResponse>> query) {
+        return execute(true, new Key(page, size, normalize(search), null, etag, router.route(true)), query);
+    }
+
+    private PagedResponse<BookResponse> execute(boolean forCache, Key key, Supplier<PagedResponse<BookResponse>> query) {
+        Supplier<PagedResponse<BookResponse>> routed = forCache
+            ? () -> router.readForCache(query)
+            : () -> router.read(query);
+        if (!enabled) {
+            return routed.get();
+        }
+        CompletableFuture<PagedResponse<BookResponse>> flight = new CompletableFuture<>();
+        CompletableFuture<PagedResponse<BookResponse>> shared = flights.putIfAbsent(key, flight);
+        if (shared != null) {
+            collapsed.increment();
+            return join(shared);
+        }
+        executed.increment();
+        // the leader reads on its own thread, where the request context and route are
+        try {
+            PagedResponse<BookResponse> response = routed.get();
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static PagedResponse<BookResponse> join(CompletableFuture<PagedResponse<BookResponse>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String normalize(@Nullable String search) {
+        return search == null ? "" : search.toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(int page, int size, String search, @Nullable Long afterId, String etag, ReadRoute route) {
+    }
+}
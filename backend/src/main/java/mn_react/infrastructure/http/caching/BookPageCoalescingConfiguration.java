@@ -0,0 +1,16 @@
+package mn_react.infrastructure.http.caching;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.page-coalescing")
+public class BookPageCoalescingConfiguration {
+
+    private boolean enabled = true;
+    private Duration window = Duration.ofMillis(50);
+    private long maximumKeys = 10_000;
+}
@@ -1,99 +1,254 @@
 package mn_react.infrastructure.http.controllers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.reactivestreams.Publisher;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.GenericArgument;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.Patch;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.Put;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.CreateBookBatchUseCase;
 import mn_react.application.usecase.book.CreateBookUseCase;
+import mn_react.application.usecase.book.BookPatch;
+import mn_react.application.usecase.book.DeleteBookBatchUseCase;
 import mn_react.application.usecase.book.DeleteBookUseCase;
+import mn_react.application.usecase.book.UpdateBookBatchUseCase;
 import mn_react.application.usecase.book.UpdateBookUseCase;
 import mn_react.domain.entities.Book;
 import mn_react.domain.exception.NotFoundException;
+import mn_react.infrastructure.execution.BookExecutionConfiguration;
+import mn_react.infrastructure.http.caching.BookETags;
+import mn_react.infrastructure.http.caching.BookPageCache;
+import mn_react.infrastructure.http.caching.BookPageCoalescer;
+import mn_react.infrastructure.http.dto.requests.BookIdsRequest;
 import mn_react.infrastructure.http.dto.requests.CreateBookRequest;
+import mn_react.infrastructure.http.dto.requests.PatchBookRequest;
 import mn_react.infrastructure.http.dto.requests.UpdateBookRequest;
+import mn_react.infrastructure.http.dto.responses.BookBatchItemResponse;
+import mn_react.infrastructure.http.dto.responses.BookBatchResponse;
 import mn_react.infrastructure.http.dto.responses.BookResponse;
 import mn_react.infrastructure.http.dto.responses.PagedResponse;
+import mn_react.infrastructure.http.feed.BookChangeFeed;
+import mn_react.infrastructure.http.pagination.PageCursor;
+import mn_react.infrastructure.persistence.BookResponseReader;
+import io.netty.buffer.ByteBuf;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 @Controller("/books")
+@ExecuteOn(BookExecutionConfiguration.EXECUTOR)
 public class BookController {
 
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+    static final int MAX_BATCH_SIZE = 5000;
+    private static final Argument<PagedResponse<BookResponse>> PAGE_TYPE =
+        new GenericArgument<>() { };
+
     private final BookRepository bookRepository;
+    private final BookResponseReader bookResponseReader;
     private final CreateBookUseCase createBookUseCase;
+    private final CreateBookBatchUseCase createBookBatchUseCase;
     private final UpdateBookUseCase updateBookUseCase;
+    private final UpdateBookBatchUseCase updateBookBatchUseCase;
     private final DeleteBookUseCase deleteBookUseCase;
+    private final DeleteBookBatchUseCase deleteBookBatchUseCase;
+    private final BookETags etags;
+    private final BookPageCache pageCache;
+    private final BookPageCoalescer pageCoalescer;
+    private final BookChangeFeed changeFeed;
+    private final JsonMapper jsonMapper;
 
     public BookController(
         BookRepository bookRepository,
+        BookResponseReader bookResponseReader,
         CreateBookUseCase createBookUseCase,
+        CreateBookBatchUseCase createBookBatchUseCase,
         UpdateBookUseCase updateBookUseCase,
-        DeleteBookUseCase deleteBookUseCase
+        UpdateBookBatchUseCase updateBookBatchUseCase,
+        DeleteBookUseCase deleteBookUseCase,
+        DeleteBookBatchUseCase deleteBookBatchUseCase,
+        BookETags etags,
+        BookPageCache pageCache,
+        BookPageCoalescer pageCoalescer,
+        BookChangeFeed changeFeed,
+        JsonMapper jsonMapper
     ) {
         this.bookRepository = bookRepository;
+        this.bookResponseReader = bookResponseReader;
         this.createBookUseCase = createBookUseCase;
+        this.createBookBatchUseCase = createBookBatchUseCase;
         this.updateBookUseCase = updateBookUseCase;
+        this.updateBookBatchUseCase = updateBookBatchUseCase;
         this.deleteBookUseCase = deleteBookUseCase;
+        this.deleteBookBatchUseCase = deleteBookBatchUseCase;
+        this.etags = etags;
+        this.pageCache = pageCache;
+        this.pageCoalescer = pageCoalescer;
+        this.changeFeed = changeFeed;
+        this.jsonMapper = jsonMapper;
     }
 
     @Get
     HttpResponse<?> getAllBooks(
             @QueryValue(defaultValue = "0") int page,
             @QueryValue(defaultValue = "10") int size,
-            @Nullable @QueryValue(defaultValue = "") String search) {
+            @Nullable @QueryValue(defaultValue = "") String search,
+            @Nullable @QueryValue String after,
+            @Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+
+        String etag = etags.forCollection();
+        if (etags.matchesAny(ifNoneMatch, etag)) {
+            return HttpResponse.notModified().header(HttpHeaders.ETAG, etag);
+        }
 
         if (page == -1) {
-            List<BookResponse> response = bookRepository.findAll()
-                .stream()
-                .map(this::toResponse)
-                .toList();
-            return HttpResponse.ok(response);
+            return HttpResponse.ok(streamAll())
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.ETAG, etag);
         }
 
-        List<Book> books = bookRepository.findAll(page, size, search);
-        long total = bookRepository.count(search);
-        List<BookResponse> content = books.stream()
-            .map(this::toResponse)
-            .toList();
-        
-        PagedResponse<BookResponse> response = PagedResponse.<BookResponse>builder()
+        Long afterId = PageCursor.decode(after);
+        if (afterId == null) {
+            ByteBuf cached = pageCache.get(page, size, search, etag);
+            if (cached != null) {
+                return HttpResponse.ok(cached)
+                    .contentType(MediaType.APPLICATION_JSON_TYPE)
+                    .header(HttpHeaders.ETAG, etag);
+            }
+        }
+
+        if (afterId == null && pageCache.isEnabled()) {
+            PagedResponse<BookResponse> response = pageCoalescer.readForCache(page, size, search, etag,
+                () -> readPage(page, size, search, null));
+            return HttpResponse.ok(pageCache.put(page, size, search, etag, toJson(response)))
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.ETAG, etag);
+        }
+        PagedResponse<BookResponse> response = pageCoalescer.read(page, size, search, afterId, etag,
+            () -> readPage(page, size, search, afterId));
+        return HttpResponse.ok(response).header(HttpHeaders.ETAG, etag);
+    }
+
+    private PagedResponse<BookResponse> readPage(int page, int size, String search, Long afterId) {
+        List<BookResponse> content = afterId == null
+            ? bookResponseReader.findAll(page, size, search)
+            : bookResponseReader.findAllAfter(afterId, size, search);
+        long total = isLastOffsetPage(afterId, page, size, content)
+            ? (long) page * size + content.size()
+            : bookRepository.count(search);
+
+        return PagedResponse.<BookResponse>builder()
             .content(content)
-            .page(page)
+            .page(afterId == null ? page : null)
             .size(size)
             .totalElements(total)
+            .nextCursor(nextCursor(content, size))
             .build();
-
-        return HttpResponse.ok(response);
     }
     
+    @Get(value = "/export", produces = APPLICATION_NDJSON)
+    Publisher<byte[]> exportBooks() {
+        return streamAll().map(this::toNdjsonLine);
+    }
+
+    @Get(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM)
+    HttpResponse<?> bookChanges(@Nullable @Header(LAST_EVENT_ID) String lastEventId) {
+        if (changeFeed.isFull()) {
+            return HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30");
+        }
+        Flux<Event<Object>> changes = changeFeed.changes(parseEventId(lastEventId))
+            .map(change -> Event.<Object>of(change.book() != null ? change.book() : Map.of())
+                .id(Long.toString(change.id()))
+                .name(change.type().name().toLowerCase(Locale.ROOT)));
+        Flux<Event<Object>> heartbeat = changeFeed.heartbeat()
+            .map(tick -> Event.<Object>of("").comment("keep-alive"));
+        // the heartbeat ends with the changes, so a disconnected slow subscriber really goes away
+        return HttpResponse.ok(changes.publish(feed -> Flux.merge(feed, heartbeat.takeUntilOther(feed.then()))));
+    }
+
     @Get("/{id}")
-    HttpResponse<BookResponse> getBook(@PathVariable Long id) {
+    HttpResponse<BookResponse> getBook(
+        @PathVariable Long id,
+        @Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
+    ) {
         Book response = bookRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("Book", id));
 
-        return HttpResponse.ok(this.toResponse(response));
+        String etag = etags.forBook(response);
+        if (etags.matchesAny(ifNoneMatch, etag)) {
+            return HttpResponse.<BookResponse>notModified().header(HttpHeaders.ETAG, etag);
+        }
+        return HttpResponse.ok(this.toResponse(response)).header(HttpHeaders.ETAG, etag);
     }
 
     @Post
     HttpResponse<BookResponse> createBook(@Valid @Body CreateBookRequest request) {
         Book created = createBookUseCase.execute(request.getTitle(), request.getPages());
-        return HttpResponse.created(toResponse(created));
+        return HttpResponse.created(toResponse(created)).header(HttpHeaders.ETAG, etags.forBook(created));
+    }
+
+    @Post("/batch")
+    HttpResponse<BookBatchResponse> createBooks(
+        @Body @NotEmpty @Size(max = MAX_BATCH_SIZE) List<CreateBookRequest> requests
+    ) {
+        List<Book> books = requests.stream()
+            .map(request -> Book.builder()
+                .title(request.getTitle())
+                .pages(request.getPages())
+                .build())
+            .toList();
+        return HttpResponse.ok(toBatchResponse(createBookBatchUseCase.execute(books)));
     }
 
     @Put("/{id}")
     HttpResponse<BookResponse> updateBook(
         @PathVariable Long id, 
-        @Valid @Body UpdateBookRequest request
+        @Valid @Body UpdateBookRequest request,
+        @Nullable @Header(HttpHeaders.IF_MATCH) String ifMatch
+    ) {
+        Book updated = updateBookUseCase.execute(
+            id, request.getTitle(), request.getPages(), etags.expectedVersion(id, ifMatch));
+        return HttpResponse.ok(toResponse(updated)).header(HttpHeaders.ETAG, etags.forBook(updated));
+    }
+
+    @Patch("/batch")
+    HttpResponse<BookBatchResponse> updateBooks(
+        @Body @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid PatchBookRequest> requests
     ) {
-        Book updated = updateBookUseCase.execute(id, request.getTitle(), request.getPages());
-        return HttpResponse.ok(toResponse(updated));
+        List<BookPatch> patches = requests.stream()
+            .map(request -> BookPatch.builder()
+                .id(request.getId())
+                .title(request.getTitle())
+                .pages(request.getPages())
+                .build())
+            .toList();
+        return HttpResponse.ok(toBatchResponse(updateBookBatchUseCase.execute(patches)));
     }
 
     @Delete("/{id}")
@@ -102,12 +257,79 @@ public class BookController {
         return HttpResponse.noContent();
     }
 
+    @Delete
+    HttpResponse<BookBatchResponse> deleteBooks(@Valid @Body BookIdsRequest request) {
+        return HttpResponse.ok(toBatchResponse(deleteBookBatchUseCase.execute(request.getIds())));
+    }
+
+    private Flux<BookResponse> streamAll() {
+        return Flux.fromStream(bookResponseReader::streamAll)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // an unreadable id is treated like an expired one, so the client gets a reset
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private byte[] toJson(PagedResponse<BookResponse> response) {
+        try {
+            return jsonMapper.writeValueAsBytes(PAGE_TYPE, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] toNdjsonLine(BookResponse book) {
+        try {
+            byte[] json = jsonMapper.writeValueAsBytes(book);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A partially filled offset page already tells the exact total
+    private boolean isLastOffsetPage(Long afterId, int page, int size, List<BookResponse> content) {
+        return afterId == null && content.size() < size && (!content.isEmpty() || page == 0);
+    }
+
+    private String nextCursor(List<BookResponse> content, int size) {
+        if (content.isEmpty() || content.size() < size) {
+            return null;
+        }
+        return PageCursor.encode(content.get(content.size() - 1).getId());
+    }
+
+    private BookBatchResponse toBatchResponse(List<BookBatchResult> results) {
+        List<BookBatchItemResponse> items = results.stream()
+            .map(result -> BookBatchItemResponse.builder()
+                .index(result.getIndex())
+                .id(result.getId())
+                .status(result.getStatus().name())
+                .book(result.getBook() == null ? null : toResponse(result.getBook()))
+                .message(result.getMessage())
+                .build())
+            .toList();
+        int succeeded = (int) results.stream().filter(BookBatchResult::isSuccess).count();
+        return BookBatchResponse.builder()
+            .succeeded(succeeded)
+            .failed(results.size() - succeeded)
+            .items(items)
+            .build();
+    }
+
     // Mapper: Domain → DTO
     private BookResponse toResponse(Book book) {
-        return BookResponse.builder()
-            .id(book.getId())
-            .title(book.getTitle())
-            .pages(book.getPages())
-            .build();
+        return BookResponse.fromDomain(book);
     }
 }
@@ -0,0 +1,101 @@
+package mn_react.infrastructure.http.controllers;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Delete;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Put;
+import io.micronaut.http.annotation.QueryValue;
+import jakarta.validation.Valid;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.application.usecase.book.ReactiveCreateBookUseCase;
+import mn_react.application.usecase.book.ReactiveDeleteBookUseCase;
+import mn_react.application.usecase.book.ReactiveUpdateBookUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.NotFoundException;
+import mn_react.infrastructure.http.dto.requests.CreateBookRequest;
+import mn_react.infrastructure.http.dto.requests.UpdateBookRequest;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.dto.responses.PagedResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC-backed variant of {@link BookController}. Handlers return publishers, so they stay on
+ * the Netty event loop end to end.
+ */
+@Controller("/reactive/books")
+@Requires(bean = ReactiveBookRepository.class)
+public class ReactiveBookController {
+
+    private final ReactiveBookRepository bookRepository;
+    private final ReactiveCreateBookUseCase createBookUseCase;
+    private final ReactiveUpdateBookUseCase updateBookUseCase;
+    private final ReactiveDeleteBookUseCase deleteBookUseCase;
+
+    public ReactiveBookController(
+        ReactiveBookRepository bookRepository,
+        ReactiveCreateBookUseCase createBookUseCase,
+        ReactiveUpdateBookUseCase updateBookUseCase,
+        ReactiveDeleteBookUseCase deleteBookUseCase
+    ) {
+        this.bookRepository = bookRepository;
+        this.createBookUseCase = createBookUseCase;
+        this.updateBookUseCase = updateBookUseCase;
+        this.deleteBookUseCase = deleteBookUseCase;
+    }
+
+    @Get
+    Mono<PagedResponse<BookResponse>> getAllBooks(
+            @QueryValue(defaultValue = "0") int page,
+            @QueryValue(defaultValue = "10") int size,
+            @Nullable @QueryValue(defaultValue = "") String search) {
+
+        return Mono.zip(
+                bookRepository.findAll(page, size, search).map(this::toResponse).collectList(),
+                bookRepository.count(search))
+            .map(result -> PagedResponse.<BookResponse>builder()
+                .content(result.getT1())
+                .page(page)
+                .size(size)
+                .totalElements(result.getT2())
+                .build());
+    }
+
+    @Get("/{id}")
+    Mono<BookResponse> getBook(@PathVariable Long id) {
+        return bookRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Book", id)))
+            .map(this::toResponse);
+    }
+
+    @Post
+    Mono<HttpResponse<BookResponse>> createBook(@Valid @Body CreateBookRequest request) {
+        return createBookUseCase.execute(request.getTitle(), request.getPages())
+            .map(created -> HttpResponse.created(toResponse(created)));
+    }
+
+    @Put("/{id}")
+    Mono<BookResponse> updateBook(
+        @PathVariable Long id,
+        @Valid @Body UpdateBookRequest request
+    ) {
+        return updateBookUseCase.execute(id, request.getTitle(), request.getPages())
+            .map(this::toResponse);
+    }
+
+    @Delete("/{id}")
+    Mono<HttpResponse<Void>> deleteBook(@PathVariable Long id) {
+        return deleteBookUseCase.execute(id)
+            .then(Mono.just(HttpResponse.noContent()));
+    }
+
+    // Mapper: Domain → DTO
+    private BookResponse toResponse(Book book) {
+        return BookResponse.fromDomain(book);
+    }
+}
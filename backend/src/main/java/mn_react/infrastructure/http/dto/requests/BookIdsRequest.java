@@ -0,0 +1,24 @@
+package mn_react.infrastructure.http.dto.requests;
+
+import java.util.List;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Serdeable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookIdsRequest {
+    @NotEmpty(message = "Ids are required")
+    @Size(max = 5000, message = "Cannot delete more than 5000 books at once")
+    private List<@NotNull Long> ids;
+}
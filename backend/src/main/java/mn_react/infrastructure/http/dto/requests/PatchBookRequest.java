@@ -0,0 +1,29 @@
+package mn_react.infrastructure.http.dto.requests;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Serdeable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PatchBookRequest {
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    @Nullable
+    private String title;
+
+    @Nullable
+    @Min(value = 1, message = "Pages must be at least 1")
+    private Integer pages;
+}
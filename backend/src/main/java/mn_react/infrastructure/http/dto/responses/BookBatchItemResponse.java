@@ -0,0 +1,22 @@
+package mn_react.infrastructure.http.dto.responses;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Serdeable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookBatchItemResponse {
+    private int index;
+    private Long id;
+    private String status;
+    private BookResponse book;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package mn_react.infrastructure.http.dto.responses;
+
+import java.util.List;
+
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Serdeable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<BookBatchItemResponse> items;
+}
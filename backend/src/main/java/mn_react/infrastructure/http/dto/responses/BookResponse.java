@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import mn_react.domain.entities.Book;
 
 @Serdeable
 @Getter
@@ -17,4 +18,14 @@ public class BookResponse {
     private Long id;
     private String title;
     private int pages;
+    private Long version;
+
+    public static BookResponse fromDomain(Book book) {
+        return BookResponse.builder()
+            .id(book.getId())
+            .title(book.getTitle())
+            .pages(book.getPages())
+            .version(book.getVersion())
+            .build();
+    }
 }
@@ -21,4 +21,5 @@ public class PagedResponse<T> {
     private Integer size;
     private Long totalElements;
     private Integer totalPages;
+    private String nextCursor;
 }
@@ -14,6 +14,7 @@ import mn_react.domain.exception.ConflictException;
 import mn_react.domain.exception.DomainException;
 import mn_react.domain.exception.ForbiddenException;
 import mn_react.domain.exception.NotFoundException;
+import mn_react.domain.exception.PreconditionFailedException;
 import mn_react.domain.exception.UnauthorizedException;
 import mn_react.domain.exception.UnprocessableEntityException;
 import mn_react.domain.exception.ValidationException;
@@ -63,6 +64,7 @@ public class DomainExceptionHandler
             case NotFoundException e -> HttpStatus.NOT_FOUND;
             case ValidationException e -> HttpStatus.BAD_REQUEST;
             case ConflictException e -> HttpStatus.CONFLICT;
+            case PreconditionFailedException e -> HttpStatus.PRECONDITION_FAILED;
             case UnprocessableEntityException e -> HttpStatus.UNPROCESSABLE_ENTITY;
             case UnauthorizedException e -> HttpStatus.UNAUTHORIZED;
             case ForbiddenException e -> HttpStatus.FORBIDDEN;
@@ -0,0 +1,19 @@
+package mn_react.infrastructure.http.feed;
+
+import io.micronaut.core.annotation.Nullable;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+
+/**
+ * One entry of the change feed. {@code RESET} carries no book: the client's Last-Event-ID is no
+ * longer in the history, or changes were dropped before reaching the feed, so it has to reload
+ * the list instead of applying changes.
+ */
+public record BookChange(long id, Type type, @Nullable BookResponse book) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESET
+    }
+}
@@ -0,0 +1,137 @@
+package mn_react.infrastructure.http.feed;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookEventConsumer;
+import mn_react.domain.events.BookCreated;
+import mn_react.domain.events.BookDeleted;
+import mn_react.domain.events.BookEvent;
+import mn_react.domain.events.BookUpdated;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.feed.BookChange.Type;
+import mn_react.infrastructure.http.feed.BookChangeFeedConfiguration.Overflow;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-process fan-out of book changes to the {@code /books/changes} subscribers. Each write is
+ * numbered and kept in a ring of the last {@code history-size} changes, so a client reconnecting
+ * with {@code Last-Event-ID} receives what it missed. Every subscriber has its own bounded buffer;
+ * when it fills, {@code overflow} drops changes or disconnects the subscriber, which then resumes
+ * from the history. Changes are only known to this instance; they arrive from the event bus after
+ * commit, so a subscriber never sees a write that was rolled back, and changes the bus had to drop
+ * take the place of a {@code RESET}.
+ */
+@Singleton
+public class BookChangeFeed implements BookEventConsumer {
+
+    private static final int PREFETCH = 32;
+
+    private final BookChangeFeedConfiguration configuration;
+    private final BufferOverflowStrategy overflowStrategy;
+    private final boolean disconnect;
+    private final int historySize;
+    private final ArrayDeque<BookChange> history;
+    private final Set<Sinks.Many<BookChange>> subscribers = ConcurrentHashMap.newKeySet();
+    private final Flux<Long> heartbeat;
+    private final Counter dropped;
+    private long sequence;
+
+    public BookChangeFeed(BookChangeFeedConfiguration configuration, MeterRegistry registry) {
+        this.configuration = configuration;
+        this.overflowStrategy = switch (configuration.getOverflow()) {
+            case DROP_OLDEST -> BufferOverflowStrategy.DROP_OLDEST;
+            case DROP_LATEST -> BufferOverflowStrategy.DROP_LATEST;
+            case DISCONNECT -> BufferOverflowStrategy.DROP_LATEST;
+        };
+        this.disconnect = configuration.getOverflow() == Overflow.DISCONNECT;
+        this.historySize = Math.max(1, configuration.getHistorySize());
+        this.history = new ArrayDeque<>(historySize);
+        // one timer for all subscribers; an idle subscriber costs its sink and nothing else
+        this.heartbeat = Flux.interval(configuration.getHeartbeat()).onBackpressureDrop().share();
+        this.dropped = registry.counter("books.changes.dropped");
+        registry.gauge("books.changes.subscribers", subscribers, Set::size);
+    }
+
+    public Flux<BookChange> changes(@Nullable Long lastEventId) {
+        return Flux.defer(() -> {
+            Sinks.Many<BookChange> subscriber = Sinks.many().unicast().onBackpressureBuffer();
+            Sinks.Empty<Void> overflowed = Sinks.empty();
+            List<BookChange> missed;
+            synchronized (this) {
+                missed = missedSince(lastEventId);
+                subscribers.add(subscriber);
+            }
+            return Flux.fromIterable(missed)
+                .concatWith(subscriber.asFlux())
+                .onBackpressureBuffer(configuration.getSubscriberBuffer(), change -> {
+                    dropped.increment();
+                    if (disconnect) {
+                        overflowed.tryEmitEmpty();
+                    }
+                }, overflowStrategy)
+                .doFinally(signal -> subscribers.remove(subscriber))
+                // completes at once; an overflow error would wait behind the buffered changes
+                .takeUntilOther(overflowed.asMono())
+                // each subscriber encodes and writes on its own worker, not on the event bus thread
+                .publishOn(Schedulers.parallel(), PREFETCH);
+        });
+    }
+
+    public Flux<Long> heartbeat() {
+        return heartbeat;
+    }
+
+    public boolean isFull() {
+        return subscribers.size() >= configuration.getMaxSubscribers();
+    }
+
+    // numbering and delivery share the lock with subscribing, so nobody misses or repeats a change
+    @Override
+    public synchronized void consume(List<BookEvent> events) {
+        for (BookEvent event : events) {
+            Type type = switch (event) {
+                case BookCreated created -> Type.CREATED;
+                case BookUpdated updated -> Type.UPDATED;
+                case BookDeleted deleted -> Type.DELETED;
+            };
+            append(new BookChange(++sequence, type, BookResponse.fromDomain(event.book())));
+        }
+    }
+
+    // the event bus dropped changes: everyone, including clients resuming from before this point, reloads
+    @Override
+    public synchronized void missed(long count) {
+        append(new BookChange(++sequence, Type.RESET, null));
+    }
+
+    private void append(BookChange change) {
+        if (history.size() == historySize) {
+            history.removeFirst();
+        }
+        history.addLast(change);
+        for (Sinks.Many<BookChange> subscriber : subscribers) {
+            subscriber.tryEmitNext(change);
+        }
+    }
+
+    private List<BookChange> missedSince(@Nullable Long lastEventId) {
+        if (lastEventId == null || lastEventId == sequence) {
+            return List.of();
+        }
+        long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().id();
+        // ahead of us means the id came from before a restart
+        if (lastEventId > sequence || lastEventId < oldest - 1) {
+            return List.of(new BookChange(sequence, Type.RESET, null));
+        }
+        return history.stream().filter(change -> change.id() > lastEventId).toList();
+    }
+}
@@ -0,0 +1,24 @@
+package mn_react.infrastructure.http.feed;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.change-feed")
+public class BookChangeFeedConfiguration {
+
+    public enum Overflow {
+        DROP_OLDEST,
+        DROP_LATEST,
+        DISCONNECT
+    }
+
+    private int historySize = 1024;
+    private int subscriberBuffer = 256;
+    private Overflow overflow = Overflow.DISCONNECT;
+    private int maxSubscribers = 10_000;
+    private Duration heartbeat = Duration.ofSeconds(30);
+}
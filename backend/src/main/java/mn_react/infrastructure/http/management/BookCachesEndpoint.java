@@ -0,0 +1,55 @@
+package mn_react.infrastructure.http.management;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import mn_react.infrastructure.cache.BookCountCache;
+import mn_react.infrastructure.cache.CachingBookRepository;
+import mn_react.infrastructure.http.caching.BookPageCache;
+
+@Endpoint(id = "bookcaches", defaultSensitive = false)
+public class BookCachesEndpoint {
+
+    private final BookCountCache countCache;
+    private final CachingBookRepository cachingBookRepository;
+    private final BookPageCache pageCache;
+
+    public BookCachesEndpoint(
+        BookCountCache countCache,
+        @Nullable CachingBookRepository cachingBookRepository,
+        BookPageCache pageCache
+    ) {
+        this.countCache = countCache;
+        this.cachingBookRepository = cachingBookRepository;
+        this.pageCache = pageCache;
+    }
+
+    @Read
+    public Map<String, Map<String, Object>> caches() {
+        Map<String, Map<String, Object>> caches = new LinkedHashMap<>();
+        caches.put("count", describe(countCache.stats(), countCache.size()));
+        if (cachingBookRepository != null) {
+            caches.put("byId", describe(cachingBookRepository.stats(), cachingBookRepository.size()));
+        }
+        if (pageCache.isEnabled()) {
+            Map<String, Object> pages = describe(pageCache.stats(), pageCache.size());
+            pages.put("bytes", pageCache.weight());
+            caches.put("pages", pages);
+        }
+        return caches;
+    }
+
+    private Map<String, Object> describe(CacheStats stats, long size) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("size", size);
+        view.put("hits", stats.hitCount());
+        view.put("misses", stats.missCount());
+        view.put("hitRate", stats.hitRate());
+        view.put("evictions", stats.evictionCount());
+        view.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return view;
+    }
+}
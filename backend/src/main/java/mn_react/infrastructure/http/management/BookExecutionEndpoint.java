@@ -0,0 +1,37 @@
+package mn_react.infrastructure.http.management;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import mn_react.infrastructure.execution.BookExecutionConfiguration;
+import mn_react.infrastructure.execution.VirtualThreadPinningMonitor;
+
+@Endpoint(id = "bookexecution", defaultSensitive = false)
+public class BookExecutionEndpoint {
+
+    private final BookExecutionConfiguration configuration;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    public BookExecutionEndpoint(
+        BookExecutionConfiguration configuration,
+        @Nullable VirtualThreadPinningMonitor pinningMonitor
+    ) {
+        this.configuration = configuration;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    @Read
+    public Map<String, Object> execution() {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("mode", configuration.getMode());
+        if (configuration.getMode() == BookExecutionConfiguration.Mode.PLATFORM) {
+            view.put("platformThreads", configuration.getPlatformThreads());
+        }
+        if (pinningMonitor != null) {
+            view.put("pinnedByFrame", pinningMonitor.pinnedByFrame());
+        }
+        return view;
+    }
+}
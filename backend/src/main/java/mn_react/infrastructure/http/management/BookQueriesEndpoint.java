@@ -0,0 +1,31 @@
+package mn_react.infrastructure.http.management;
+
+import java.util.List;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.endpoint.annotation.Delete;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import mn_react.infrastructure.persistence.profiling.QueryProfiler;
+import mn_react.infrastructure.persistence.profiling.StatementStatistics;
+
+@Endpoint(id = "bookqueries", defaultSensitive = false)
+public class BookQueriesEndpoint {
+
+    private static final int DEFAULT_TOP = 10;
+
+    private final QueryProfiler profiler;
+
+    public BookQueriesEndpoint(QueryProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Read
+    public List<StatementStatistics> queries(@Nullable Integer top) {
+        return profiler.top(top == null || top <= 0 ? DEFAULT_TOP : top);
+    }
+
+    @Delete
+    public void reset() {
+        profiler.reset();
+    }
+}
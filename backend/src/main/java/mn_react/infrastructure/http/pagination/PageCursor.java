@@ -0,0 +1,36 @@
+package mn_react.infrastructure.http.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import mn_react.domain.exception.ValidationException;
+
+public final class PageCursor {
+
+    private static final String PREFIX = "id:";
+
+    private PageCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new ValidationException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package mn_react.infrastructure.http.routing;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.cookie.Cookie;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.persistence.routing.BookReadRoutingConfiguration;
+import mn_react.infrastructure.persistence.routing.ReadRoute;
+
+/**
+ * Chooses the read route of every {@code /books} request. Writes run on the primary and answer
+ * with a cookie holding the write time; GETs that present it within {@code max-replica-lag} read
+ * from the primary too, so a client always sees its own writes. The header overrides both rules
+ * with {@code primary} or {@code replica}.
+ */
+@ServerFilter({"/books", "/books/**"})
+@Requires(property = "books.read-routing.enabled", notEquals = "false")
+@Requires(property = "datasources." + BookReadRoutingConfiguration.REPLICA_DATASOURCE + ".url")
+public class BookReadRoutingFilter {
+
+    private final BookReadRoutingConfiguration configuration;
+
+    public BookReadRoutingFilter(BookReadRoutingConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @RequestFilter
+    void route(HttpRequest<?> request) {
+        request.setAttribute(BookReadRouter.ROUTE_ATTRIBUTE, routeFor(request));
+    }
+
+    @ResponseFilter
+    void markWrite(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        if (isRead(request.getMethod()) || response.code() >= 400) {
+            return;
+        }
+        Duration lag = configuration.getMaxReplicaLag();
+        response.cookie(Cookie.of(configuration.getCookie(), Long.toString(System.currentTimeMillis()))
+            .path("/")
+            .httpOnly(true)
+            .maxAge(Math.max(1, lag.toSeconds() + (lag.toMillisPart() > 0 ? 1 : 0))));
+    }
+
+    private ReadRoute routeFor(HttpRequest<?> request) {
+        if (!isRead(request.getMethod())) {
+            return ReadRoute.PRIMARY;
+        }
+        Optional<ReadRoute> requested = request.getHeaders().findFirst(configuration.getHeader())
+            .flatMap(BookReadRoutingFilter::parse);
+        if (requested.isPresent()) {
+            return requested.get();
+        }
+        return request.getCookies().findCookie(configuration.getCookie())
+            .map(cookie -> writtenRecently(cookie.getValue()) ? ReadRoute.PRIMARY : ReadRoute.REPLICA)
+            .orElse(ReadRoute.REPLICA);
+    }
+
+    private boolean writtenRecently(String writtenAt) {
+        try {
+            long age = System.currentTimeMillis() - Long.parseLong(writtenAt);
+            return age < configuration.getMaxReplicaLag().toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Optional<ReadRoute> parse(String value) {
+        try {
+            return Optional.of(ReadRoute.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isRead(HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.HEAD;
+    }
+}
@@ -0,0 +1,21 @@
+package mn_react.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class BookMetrics {
+
+    public static final String USE_CASE = "books.usecase";
+    public static final String REPOSITORY = "books.repository";
+
+    private final MeterRegistry registry;
+
+    public BookMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public OperationTimer timer(String name, String operation) {
+        return new OperationTimer(registry, name, operation);
+    }
+}
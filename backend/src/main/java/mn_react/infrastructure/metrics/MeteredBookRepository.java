@@ -0,0 +1,113 @@
+package mn_react.infrastructure.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
+import mn_react.domain.entities.Book;
+
+/**
+ * Times every call that reaches the database. Sits below the by-id cache, so cache hits
+ * never show up here.
+ */
+public class MeteredBookRepository implements BookRepository {
+
+    private final BookRepository delegate;
+    private final OperationTimer findAll;
+    private final OperationTimer streamAll;
+    private final OperationTimer count;
+    private final OperationTimer findById;
+    private final OperationTimer findAllById;
+    private final OperationTimer save;
+    private final OperationTimer saveAll;
+    private final OperationTimer update;
+    private final OperationTimer updateAll;
+    private final OperationTimer deleteById;
+    private final OperationTimer deleteAllById;
+    private final OperationTimer findIdsByTitle;
+
+    public MeteredBookRepository(BookRepository delegate, BookMetrics metrics) {
+        this.delegate = delegate;
+        this.findAll = metrics.timer(BookMetrics.REPOSITORY, "findAll");
+        this.streamAll = metrics.timer(BookMetrics.REPOSITORY, "streamAll");
+        this.count = metrics.timer(BookMetrics.REPOSITORY, "count");
+        this.findById = metrics.timer(BookMetrics.REPOSITORY, "findById");
+        this.findAllById = metrics.timer(BookMetrics.REPOSITORY, "findAllById");
+        this.save = metrics.timer(BookMetrics.REPOSITORY, "save");
+        this.saveAll = metrics.timer(BookMetrics.REPOSITORY, "saveAll");
+        this.update = metrics.timer(BookMetrics.REPOSITORY, "update");
+        this.updateAll = metrics.timer(BookMetrics.REPOSITORY, "updateAll");
+        this.deleteById = metrics.timer(BookMetrics.REPOSITORY, "deleteById");
+        this.deleteAllById = metrics.timer(BookMetrics.REPOSITORY, "deleteAllById");
+        this.findIdsByTitle = metrics.timer(BookMetrics.REPOSITORY, "findIdsByTitle");
+    }
+
+    @Override
+    public List<Book> findAll() {
+        return findAll.record(delegate::findAll);
+    }
+
+    // only opening the cursor is timed; rows are pulled later by the caller
+    @Override
+    public Stream<Book> streamAll() {
+        return streamAll.record(delegate::streamAll);
+    }
+
+    @Override
+    public long count() {
+        return count.record(() -> delegate.count());
+    }
+
+    @Override
+    public long count(String search) {
+        return count.record(() -> delegate.count(search));
+    }
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return findById.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Book> findAllById(Collection<Long> ids) {
+        return findAllById.record(() -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public Book save(Book book) {
+        return save.record(() -> delegate.save(book));
+    }
+
+    @Override
+    public List<Book> saveAll(List<Book> books) {
+        return saveAll.record(() -> delegate.saveAll(books));
+    }
+
+    @Override
+    public Optional<BookUpdate> updateIfMatches(Book book, Long expectedVersion) {
+        return update.record(() -> delegate.updateIfMatches(book, expectedVersion));
+    }
+
+    @Override
+    public List<Book> updateAll(List<Book> books) {
+        return updateAll.record(() -> delegate.updateAll(books));
+    }
+
+    @Override
+    public Optional<Book> deleteById(Long id) {
+        return deleteById.record(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public List<Book> deleteAllById(Collection<Long> ids) {
+        return deleteAllById.record(() -> delegate.deleteAllById(ids));
+    }
+
+    @Override
+    public Map<String, Long> findIdsByTitleIgnoreCase(Collection<String> titles) {
+        return findIdsByTitle.record(() -> delegate.findIdsByTitleIgnoreCase(titles));
+    }
+}
@@ -0,0 +1,56 @@
+package mn_react.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timer for one operation, split by {@link Outcome}. Meters are resolved once per outcome and
+ * then reused, so the hot path only reads the clock and updates the timer.
+ */
+public final class OperationTimer {
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final String operation;
+    private final Timer[] timers = new Timer[Outcome.values().length];
+
+    OperationTimer(MeterRegistry registry, String name, String operation) {
+        this.registry = registry;
+        this.name = name;
+        this.operation = operation;
+    }
+
+    public <T> T record(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            timer(Outcome.SUCCESS).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            timer(Outcome.of(e)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    public void run(Runnable call) {
+        record(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private Timer timer(Outcome outcome) {
+        Timer timer = timers[outcome.ordinal()];
+        if (timer == null) {
+            // registration is idempotent, so a racing first call just resolves the same meter
+            timer = Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome.tag())
+                .register(registry);
+            timers[outcome.ordinal()] = timer;
+        }
+        return timer;
+    }
+}
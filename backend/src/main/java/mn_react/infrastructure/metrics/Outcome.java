@@ -0,0 +1,32 @@
+package mn_react.infrastructure.metrics;
+
+import mn_react.domain.exception.ConflictException;
+import mn_react.domain.exception.NotFoundException;
+import mn_react.domain.exception.PreconditionFailedException;
+import mn_react.domain.exception.ValidationException;
+
+public enum Outcome {
+    SUCCESS,
+    NOT_FOUND,
+    CONFLICT,
+    VALIDATION,
+    PRECONDITION_FAILED,
+    ERROR;
+
+    private final String tag = name().toLowerCase();
+
+    public String tag() {
+        return tag;
+    }
+
+    // mirrors the status mapping in DomainExceptionHandler
+    public static Outcome of(Throwable error) {
+        return switch (error) {
+            case NotFoundException e -> NOT_FOUND;
+            case ConflictException e -> CONFLICT;
+            case ValidationException e -> VALIDATION;
+            case PreconditionFailedException e -> PRECONDITION_FAILED;
+            default -> ERROR;
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package mn_react.infrastructure.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.persistence.entity.BookChangesEntity;
+import mn_react.infrastructure.persistence.jdbc.BookChangesRepository;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.persistence.routing.ReadRoute;
+import mn_react.infrastructure.persistence.routing.RoutingDataSource;
+
+/**
+ * Database-wide count of changes to {@code books}. Always read on the primary: a replica shows
+ * a sequence as last logged, up to a few dozen values ahead, so its count can stand still while
+ * rows change. A count that moved routes the next cache fills to the primary, like a local write.
+ *
+ * The count is kept for {@code max-age} so list requests served from a cache need no connection;
+ * a write through this instance makes the next request read it again. Writes made elsewhere are
+ * seen within {@code max-age}.
+ */
+@Singleton
+public class BookChangeCounter implements BookChangeListener {
+
+    private final BookChangesRepository repository;
+    private final BookReadRouter router;
+    private final long maxAgeNanos;
+    private final AtomicLong writes = new AtomicLong();
+    private final Lock refresh = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public BookChangeCounter(
+        BookChangesRepository repository,
+        BookReadRouter router,
+        BookChangeCounterConfiguration configuration
+    ) {
+        this.repository = repository;
+        this.router = router;
+        this.maxAgeNanos = configuration.getMaxAge().toNanos();
+    }
+
+    /**
+     * The database's creation time and change count, which together identify one state of the table.
+     */
+    public String current() {
+        Snapshot known = snapshot;
+        if (known != null && known.generation == writes.get()) {
+            if (known.isFresh(maxAgeNanos)) {
+                return known.tag;
+            }
+            // only aged: one request reads the database while the others keep the last count
+            if (!refresh.tryLock()) {
+                return known.tag;
+            }
+        } else {
+            refresh.lock();
+        }
+        try {
+            return refreshed().tag;
+        } finally {
+            refresh.unlock();
+        }
+    }
+
+    private Snapshot refreshed() {
+        long generation = writes.get();
+        Snapshot known = snapshot;
+        if (known != null && known.generation == generation && known.isFresh(maxAgeNanos)) {
+            return known;
+        }
+        long readAt = System.nanoTime();
+        BookChangesEntity changes = RoutingDataSource
+            .route(ReadRoute.PRIMARY, () -> repository.findById(BookChangesEntity.ID))
+            .orElseThrow(() -> new IllegalStateException("books_changes has no row; run the migrations"));
+        String tag = Long.toHexString(changes.getCreatedAt().toEpochMilli()) + "-" + changes.getVersion();
+        // the first read cannot tell what changed before it
+        if (known == null || !known.tag.equals(tag)) {
+            router.onExternalChange();
+        }
+        // a write during the read leaves the generation behind, so the next request reads again
+        Snapshot current = new Snapshot(tag, generation, readAt);
+        snapshot = current;
+        return current;
+    }
+
+    @Override
+    public void onCreated(Book book) {
+        writes.incrementAndGet();
+    }
+
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        writes.incrementAndGet();
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        writes.incrementAndGet();
+    }
+
+    private record Snapshot(String tag, long generation, long readAt) {
+
+        boolean isFresh(long maxAgeNanos) {
+            return System.nanoTime() - readAt < maxAgeNanos;
+        }
+    }
+}
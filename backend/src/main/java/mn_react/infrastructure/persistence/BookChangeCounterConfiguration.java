@@ -0,0 +1,14 @@
+package mn_react.infrastructure.persistence;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.change-counter")
+public class BookChangeCounterConfiguration {
+
+    private Duration maxAge = Duration.ofSeconds(1);
+}
@@ -1,80 +1,221 @@
 package mn_react.infrastructure.persistence;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.exceptions.OptimisticLockException;
+import io.micronaut.transaction.annotation.Transactional;
 import jakarta.inject.Singleton;
 import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
 import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+import mn_react.infrastructure.cache.BookCountCache;
 import mn_react.infrastructure.persistence.entity.BookEntity;
 import mn_react.infrastructure.persistence.jdbc.BookJdbcRepository;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcStreamer;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcWriter;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.search.BookSearchIndex;
 
 @Singleton
 public class BookRepositoryImpl implements BookRepository {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final int IN_LIST_CHUNK = 1000;
+
     private final BookJdbcRepository repository;
+    private final BookJdbcWriter writer;
+    private final BookJdbcStreamer streamer;
+    private final BookSearchIndex searchIndex;
+    private final BookCountCache countCache;
+    private final BookReadRouter router;
 
-    public BookRepositoryImpl(BookJdbcRepository jdbcRepository) {
+    public BookRepositoryImpl(
+        BookJdbcRepository jdbcRepository,
+        BookJdbcWriter writer,
+        BookJdbcStreamer streamer,
+        BookSearchIndex searchIndex,
+        BookCountCache countCache,
+        BookReadRouter router
+    ) {
         this.repository = jdbcRepository;
+        this.writer = writer;
+        this.streamer = streamer;
+        this.searchIndex = searchIndex;
+        this.countCache = countCache;
+        this.router = router;
     }
 
     @Override
     public List<Book> findAll() {
-        return repository.findAll().stream()
+        return router.read(() -> repository.findAll().stream()
             .map(BookEntity::toDomain)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
-    public List<Book> findAll(int page, int size, String search) {
-        int offset = page * size;
-        return repository.findAllPaginated(offset, size, search).stream()
-            .map(BookEntity::toDomain)
-            .collect(Collectors.toList());
+    public Stream<Book> streamAll() {
+        return router.read(() -> streamer.streamAll().map(BookEntity::toDomain));
     }
 
     @Override
     public long count() {
-        return repository.count();
+        return router.read(repository::count);
     }
 
     @Override
     public long count(String search) {
-        return repository.countWithSearch(search);
+        return countCache.get(search, () -> searchIndex.findMatchingIds(search)
+            .map(ids -> (long) ids.length)
+            .orElseGet(() -> router.readForCache(() -> repository.countWithSearch(search))));
     }
 
     @Override
     public Optional<Book> findById(Long id) {
-        return repository.findById(id).map(BookEntity::toDomain);
+        return router.read(() -> repository.findById(id).map(BookEntity::toDomain));
+    }
+
+    @Override
+    public List<Book> findAllById(Collection<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<Book> books = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_LIST_CHUNK) {
+            repository.findByIdInOrderByIdDesc(distinct.subList(from, Math.min(from + IN_LIST_CHUNK, distinct.size())))
+                .forEach(entity -> books.add(entity.toDomain()));
+        }
+        return books;
     }
 
     @Override
     public Book save(Book book) {
         BookEntity entity = BookEntity.fromDomain(book);
-        BookEntity saved = repository.save(entity);
-        return saved.toDomain();
+        try {
+            return repository.save(entity).toDomain();
+        } catch (DataAccessException e) {
+            throw writeConflict(book, e);
+        }
     }
 
     @Override
-    public Book update(Book book) {
-        BookEntity entity = BookEntity.fromDomain(book);
-        BookEntity updated = repository.update(entity);
-        return updated.toDomain();
+    @Transactional
+    public List<Book> saveAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        List<BookEntity> entities = books.stream()
+            .map(BookEntity::fromDomain)
+            .toList();
+        try {
+            return repository.saveAll(entities).stream()
+                .map(BookEntity::toDomain)
+                .collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            if (isUniqueViolation(e)) {
+                throw new ConflictException("A title in the batch already exists");
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<BookUpdate> updateIfMatches(Book book, Long expectedVersion) {
+        String title = book.getTitle();
+        try {
+            return writer.previousOfUpdate(
+                    book.getId(), title, BookEntity.normalize(title), book.getPages(), expectedVersion)
+                .map(previous -> new BookUpdate(previous.toDomain(), Book.builder()
+                    .id(previous.getId())
+                    .title(title)
+                    .pages(book.getPages())
+                    .version(previous.getVersion() + 1)
+                    .build()));
+        } catch (DataAccessException e) {
+            throw writeConflict(book, e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Book> updateAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        List<BookEntity> entities = books.stream()
+            .map(BookEntity::fromDomain)
+            .toList();
+        try {
+            return repository.updateAll(entities).stream()
+                .map(BookEntity::toDomain)
+                .collect(Collectors.toList());
+        } catch (OptimisticLockException e) {
+            throw new ConflictException("A book in the batch was modified concurrently");
+        } catch (DataAccessException e) {
+            if (isUniqueViolation(e)) {
+                throw new ConflictException("A title in the batch already exists");
+            }
+            throw e;
+        }
     }
 
     @Override
-    public void deleteById(Long id) {
-        repository.deleteById(id);
+    public Optional<Book> deleteById(Long id) {
+        return writer.previousOfDelete(id).map(BookEntity::toDomain);
     }
 
     @Override
-    public boolean existsByTitleIgnoreCase(String title) {
-        return repository.existsByTitleIgnoreCase(title);
+    @Transactional
+    public List<Book> deleteAllById(Collection<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<Book> deleted = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_LIST_CHUNK) {
+            // locked first, so a concurrent delete waits and then finds nothing to report
+            List<BookEntity> locked = repository.lockByIdIn(
+                distinct.subList(from, Math.min(from + IN_LIST_CHUNK, distinct.size())));
+            repository.deleteByIdIn(locked.stream().map(BookEntity::getId).toList());
+            locked.forEach(entity -> deleted.add(entity.toDomain()));
+        }
+        return deleted;
     }
 
     @Override
-    public boolean existsByTitleIgnoreCaseAndIdNot(String title, Long id) {
-        return repository.findAll().stream()
-            .anyMatch(book -> book.getTitle().equalsIgnoreCase(title) && !book.getId().equals(id));
+    public Map<String, Long> findIdsByTitleIgnoreCase(Collection<String> titles) {
+        List<String> normalized = titles.stream()
+            .map(BookEntity::normalize)
+            .distinct()
+            .toList();
+        Map<String, Long> ids = new HashMap<>();
+        for (int from = 0; from < normalized.size(); from += IN_LIST_CHUNK) {
+            List<String> chunk = normalized.subList(from, Math.min(from + IN_LIST_CHUNK, normalized.size()));
+            repository.findByTitleNormalizedIn(chunk)
+                .forEach(entity -> ids.put(entity.getTitleNormalized(), entity.getId()));
+        }
+        return ids;
+    }
+
+    private ConflictException writeConflict(Book book, DataAccessException e) {
+        if (e instanceof OptimisticLockException) {
+            return new ConflictException("Book " + book.getId() + " was modified concurrently");
+        }
+        if (isUniqueViolation(e)) {
+            return new ConflictException("A book with title '" + book.getTitle() + "' already exists");
+        }
+        throw e;
+    }
+
+    private static boolean isUniqueViolation(DataAccessException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
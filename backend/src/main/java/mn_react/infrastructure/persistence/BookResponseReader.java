@@ -0,0 +1,95 @@
+package mn_react.infrastructure.persistence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.metrics.BookMetrics;
+import mn_react.infrastructure.metrics.OperationTimer;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcStreamer;
+import mn_react.infrastructure.persistence.jdbc.BookResponseRepository;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.search.BookSearchIndex;
+
+/**
+ * List reads for the HTTP layer. Same paging and search-index rules as
+ * {@link BookRepositoryImpl}, but each row becomes one {@link BookResponse}.
+ */
+@Singleton
+public class BookResponseReader {
+
+    private final BookResponseRepository repository;
+    private final BookJdbcStreamer streamer;
+    private final BookSearchIndex searchIndex;
+    private final BookReadRouter router;
+    private final OperationTimer findPage;
+    private final OperationTimer findAfter;
+
+    public BookResponseReader(
+        BookResponseRepository repository,
+        BookJdbcStreamer streamer,
+        BookSearchIndex searchIndex,
+        BookReadRouter router,
+        BookMetrics metrics
+    ) {
+        this.repository = repository;
+        this.streamer = streamer;
+        this.searchIndex = searchIndex;
+        this.router = router;
+        this.findPage = metrics.timer(BookMetrics.REPOSITORY, "findPageProjection");
+        this.findAfter = metrics.timer(BookMetrics.REPOSITORY, "findAfterProjection");
+    }
+
+    public List<BookResponse> findAll(int page, int size, String search) {
+        return findPage.record(() -> router.read(() -> {
+            int offset = page * size;
+            Optional<long[]> matches = searchIndex.findMatchingIds(search);
+            if (matches.isPresent()) {
+                return findAllByIds(matches.get(), offset, size);
+            }
+            return repository.findAllPaginated(offset, size, search);
+        }));
+    }
+
+    public List<BookResponse> findAllAfter(Long afterId, int size, String search) {
+        if (afterId == null) {
+            return findAll(0, size, search);
+        }
+        return findAfter.record(() -> router.read(() -> {
+            Optional<long[]> matches = searchIndex.findMatchingIds(search);
+            if (matches.isPresent()) {
+                return findAllByIds(matches.get(), firstIdBelow(matches.get(), afterId), size);
+            }
+            return repository.findAllAfterId(afterId, size, search);
+        }));
+    }
+
+    public Stream<BookResponse> streamAll() {
+        return router.read(() -> streamer.streamAll(row -> new BookResponse(
+            row.getLong("id"), row.getString("title"), row.getInt("pages"), row.getLong("version"))));
+    }
+
+    private List<BookResponse> findAllByIds(long[] descendingIds, int from, int size) {
+        if (from >= descendingIds.length) {
+            return List.of();
+        }
+        int to = (int) Math.min((long) from + size, descendingIds.length);
+        return repository.findByIdInOrderByIdDesc(Arrays.stream(descendingIds, from, to).boxed().toList());
+    }
+
+    private static int firstIdBelow(long[] descendingIds, long afterId) {
+        int low = 0;
+        int high = descendingIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (descendingIds[mid] >= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,28 @@
+package mn_react.infrastructure.persistence.entity;
+
+import java.time.Instant;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The single row of the {@code books_changes_state} view. {@code version} is the sequence a
+ * trigger bumps on every change to {@code books}; {@code createdAt} tells databases apart.
+ */
+@MappedEntity(value = "books_changes_state")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookChangesEntity {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    private Instant createdAt;
+
+    private long version;
+}
@@ -1,8 +1,12 @@
 package mn_react.infrastructure.persistence.entity;
 
+import java.util.Locale;
 import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Id;
 import io.micronaut.data.annotation.MappedEntity;
+import io.micronaut.data.annotation.Version;
+import io.micronaut.data.annotation.event.PrePersist;
+import io.micronaut.data.annotation.event.PreUpdate;
 import io.micronaut.serde.annotation.Serdeable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,14 +29,30 @@ public class BookEntity {
     private Long id;
     
     private String title;
+
+    private String titleNormalized;
     
     private int pages;
 
+    @Version
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeTitle() {
+        this.titleNormalized = normalize(this.title);
+    }
+
+    public static String normalize(String title) {
+        return title == null ? null : title.toLowerCase(Locale.ROOT);
+    }
+
     public Book toDomain() {
         return Book.builder()
             .id(this.id)
             .title(this.title)
             .pages(this.pages)
+            .version(this.version)
             .build();
     }
 
@@ -41,6 +61,7 @@ public class BookEntity {
             .id(book.getId())
             .title(book.getTitle())
             .pages(book.getPages())
+            .version(book.getVersion())
             .build();
     }
 }
@@ -0,0 +1,13 @@
+package mn_react.infrastructure.persistence.jdbc;
+
+import java.util.Optional;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import mn_react.infrastructure.persistence.entity.BookChangesEntity;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface BookChangesRepository extends GenericRepository<BookChangesEntity, Integer> {
+
+    Optional<BookChangesEntity> findById(Integer id);
+}
@@ -1,5 +1,6 @@
 package mn_react.infrastructure.persistence.jdbc;
 
+import java.util.Collection;
 import java.util.List;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
@@ -10,29 +11,22 @@ import mn_react.infrastructure.persistence.entity.BookEntity;
 @JdbcRepository(dialect = Dialect.H2)
 public interface BookJdbcRepository extends CrudRepository<BookEntity, Long> {
     
-    boolean existsByTitleIgnoreCase(String title);
-    
-    @Query("""
-    SELECT * FROM books
-    WHERE (
-        :search IS NULL 
-        OR :search = '' 
-        OR LOWER(title) 
-        LIKE LOWER(CONCAT('%', :search, '%'))
-    ) 
-    ORDER BY id 
-    DESC LIMIT :size 
-    OFFSET :offset
-    """)
-    List<BookEntity> findAllPaginated(int offset, int size, String search);
-    
+    List<BookEntity> findByTitleNormalizedIn(Collection<String> titleNormalized);
+
+    List<BookEntity> findByIdInOrderByIdDesc(Collection<Long> ids);
+
+    int deleteByIdIn(Collection<Long> ids);
+
+    @Query("SELECT * FROM books WHERE id IN (:ids) FOR UPDATE")
+    List<BookEntity> lockByIdIn(Collection<Long> ids);
+
     @Query("""
     SELECT COUNT(*) 
     FROM books 
     WHERE (
         :search IS NULL 
         OR :search = '' 
-        OR LOWER(title) 
+        OR title_normalized 
         LIKE LOWER(CONCAT('%', :search, '%'))
     )
     """)
@@ -0,0 +1,115 @@
+package mn_react.infrastructure.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.data.exceptions.DataAccessException;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+
+@Singleton
+public class BookJdbcStreamer {
+
+    private static final String SELECT_ALL = "SELECT id, title, pages, version FROM books ORDER BY id DESC";
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+
+    public BookJdbcStreamer(
+        DataSource dataSource,
+        @Value("${books.export.fetch-size:500}") int fetchSize
+    ) {
+        this.dataSource = DelegatingDataSource.unwrapDataSource(dataSource);
+        this.fetchSize = fetchSize;
+    }
+
+    public Stream<BookEntity> streamAll() {
+        return streamAll(row -> BookEntity.builder()
+            .id(row.getLong("id"))
+            .title(row.getString("title"))
+            .pages(row.getInt("pages"))
+            .version(row.getLong("version"))
+            .build());
+    }
+
+    public <T> Stream<T> streamAll(RowMapper<T> mapper) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setReadOnly(true);
+            // PostgreSQL only honours the fetch size inside a transaction
+            connection.setAutoCommit(false);
+            PreparedStatement statement = connection.prepareStatement(
+                SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            ResultSet resultSet = statement.executeQuery();
+            Cursor<T> cursor = new Cursor<>(connection, statement, resultSet, mapper);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new DataAccessException("Failed to open book export cursor", e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // connection is being discarded anyway
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet row) throws SQLException;
+    }
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final RowMapper<T> mapper;
+
+        Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                action.accept(mapper.map(resultSet));
+                return true;
+            } catch (SQLException e) {
+                throw new DataAccessException("Failed to read book export row", e);
+            }
+        }
+
+        void close() {
+            try (connection; statement; resultSet) {
+                connection.rollback();
+            } catch (SQLException e) {
+                throw new DataAccessException("Failed to close book export cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package mn_react.infrastructure.persistence.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Locale;
+import java.util.Optional;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.connection.annotation.Connectable;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+
+/**
+ * Single-statement writes that return the row as it was before the write. The databases spell
+ * this differently and Micronaut Data maps neither, so the SQL is chosen per vendor and run over
+ * the connection Micronaut Data would use, inside its transaction if one is open.
+ */
+@Singleton
+public class BookJdbcWriter {
+
+    private final JdbcOperations jdbc;
+    private volatile Vendor vendor;
+
+    public BookJdbcWriter(JdbcOperations jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Empty when the book is missing or, with an {@code expectedVersion}, no longer at that version.
+     */
+    @Connectable
+    public Optional<BookEntity> previousOfUpdate(
+        long id, String title, String titleNormalized, int pages, @Nullable Long expectedVersion
+    ) {
+        return jdbc.prepareStatement(vendor().update, statement -> {
+            statement.setString(1, title);
+            statement.setString(2, titleNormalized);
+            statement.setInt(3, pages);
+            statement.setLong(4, id);
+            if (expectedVersion == null) {
+                statement.setNull(5, Types.BIGINT);
+                statement.setNull(6, Types.BIGINT);
+            } else {
+                statement.setLong(5, expectedVersion);
+                statement.setLong(6, expectedVersion);
+            }
+            return previous(statement);
+        });
+    }
+
+    @Connectable
+    public Optional<BookEntity> previousOfDelete(long id) {
+        return jdbc.prepareStatement(vendor().delete, statement -> {
+            statement.setLong(1, id);
+            return previous(statement);
+        });
+    }
+
+    private Optional<BookEntity> previous(PreparedStatement statement) throws SQLException {
+        try (ResultSet row = statement.executeQuery()) {
+            return row.next() ? Optional.of(jdbc.readEntity(row, BookEntity.class)) : Optional.empty();
+        }
+    }
+
+    private Vendor vendor() {
+        Vendor current = vendor;
+        if (current == null) {
+            String product = jdbc.execute(connection -> connection.getMetaData().getDatabaseProductName());
+            current = Vendor.of(product);
+            vendor = current;
+        }
+        return current;
+    }
+
+    private enum Vendor {
+        // data change delta tables read the row as the statement found it
+        H2("""
+            SELECT id, title, title_normalized, pages, version FROM OLD TABLE (
+                UPDATE books
+                SET title = ?, title_normalized = ?, pages = ?, version = version + 1
+                WHERE id = ? AND (CAST(? AS BIGINT) IS NULL OR version = ?)
+            )
+            """, """
+            SELECT id, title, title_normalized, pages, version FROM OLD TABLE (
+                DELETE FROM books WHERE id = ?
+            )
+            """),
+        // RETURNING sees the new row, so the update joins the locked old one to return it
+        POSTGRESQL("""
+            UPDATE books updated
+            SET title = ?, title_normalized = ?, pages = ?, version = updated.version + 1
+            FROM (
+                SELECT id, title, title_normalized, pages, version FROM books
+                WHERE id = ? AND (CAST(? AS BIGINT) IS NULL OR version = ?)
+                FOR UPDATE
+            ) previous
+            WHERE updated.id = previous.id
+            RETURNING previous.id, previous.title, previous.title_normalized, previous.pages, previous.version
+            """, """
+            DELETE FROM books WHERE id = ?
+            RETURNING id, title, title_normalized, pages, version
+            """);
+
+        private final String update;
+        private final String delete;
+
+        Vendor(String update, String delete) {
+            this.update = update;
+            this.delete = delete;
+        }
+
+        static Vendor of(String product) {
+            return switch (product.toLowerCase(Locale.ROOT)) {
+                case "h2" -> H2;
+                case "postgresql" -> POSTGRESQL;
+                default -> throw new DataAccessException("Unsupported database for book writes: " + product);
+            };
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package mn_react.infrastructure.persistence.jdbc;
+
+import java.util.Collection;
+import java.util.List;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+
+/**
+ * Read-side projections that map rows straight into {@link BookResponse}, skipping the
+ * entity and domain objects. Writes go through {@link BookJdbcRepository}.
+ */
+@JdbcRepository(dialect = Dialect.H2)
+public interface BookResponseRepository extends GenericRepository<BookEntity, Long> {
+
+    List<BookResponse> findByIdInOrderByIdDesc(Collection<Long> ids);
+
+    @Query("""
+    SELECT id, title, pages, version FROM books
+    WHERE (
+        :search IS NULL 
+        OR :search = '' 
+        OR title_normalized 
+        LIKE LOWER(CONCAT('%', :search, '%'))
+    ) 
+    ORDER BY id 
+    DESC LIMIT :size 
+    OFFSET :offset
+    """)
+    List<BookResponse> findAllPaginated(int offset, int size, String search);
+
+    @Query("""
+    SELECT id, title, pages, version FROM books
+    WHERE id < :afterId
+    AND (
+        :search IS NULL 
+        OR :search = '' 
+        OR title_normalized 
+        LIKE LOWER(CONCAT('%', :search, '%'))
+    ) 
+    ORDER BY id 
+    DESC LIMIT :size
+    """)
+    List<BookResponse> findAllAfterId(long afterId, int size, String search);
+}
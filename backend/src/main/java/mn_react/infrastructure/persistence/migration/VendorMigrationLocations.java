@@ -0,0 +1,55 @@
+package mn_react.infrastructure.persistence.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Locale;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.flyway.FlywayConfigurationCustomizer;
+import io.micronaut.flyway.FlywayConfigurationProperties;
+
+/**
+ * Expands {@code {vendor}} in the migration locations to the database product, {@code h2} or
+ * {@code postgresql}. Flyway leaves the placeholder to the framework and Micronaut does not
+ * resolve it. Takes the place of Micronaut's default customizer, which only registers Java
+ * migrations, callbacks and resolvers; this application has none.
+ */
+@EachBean(FlywayConfigurationProperties.class)
+public class VendorMigrationLocations implements FlywayConfigurationCustomizer {
+
+    private static final String VENDOR = "{vendor}";
+
+    private final String name;
+
+    public VendorMigrationLocations(FlywayConfigurationProperties properties) {
+        this.name = properties.getNameQualifier();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void customizeFluentConfiguration(FluentConfiguration configuration) {
+        Location[] locations = configuration.getLocations();
+        if (Arrays.stream(locations).noneMatch(location -> location.getDescriptor().contains(VENDOR))) {
+            return;
+        }
+        String vendor = vendor(configuration);
+        configuration.locations(Arrays.stream(locations)
+            .map(location -> location.getDescriptor().replace(VENDOR, vendor))
+            .toArray(String[]::new));
+    }
+
+    private static String vendor(FluentConfiguration configuration) {
+        try (Connection connection = configuration.getDataSource().getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        } catch (SQLException e) {
+            throw new DataAccessException("Cannot tell the database vendor for the migrations", e);
+        }
+    }
+}
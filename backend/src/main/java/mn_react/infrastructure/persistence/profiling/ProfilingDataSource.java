@@ -0,0 +1,210 @@
+package mn_react.infrastructure.persistence.profiling;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections whose statements report every execution to the {@link QueryProfiler}.
+ * Execution time covers the {@code execute*} call; rows read from a result set are added
+ * when it is closed.
+ */
+public class ProfilingDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final QueryProfiler profiler;
+
+    public ProfilingDataSource(DataSource delegate, QueryProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    public DataSource getTargetDataSource() {
+        return delegate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(delegate.getConnection(username, password));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+        return type.isInstance(delegate) ? type.cast(delegate) : delegate.unwrap(type);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) throws SQLException {
+        return type.isInstance(delegate) || delegate.isWrapperFor(type);
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && args != null && args.length > 0
+                    && args[0] instanceof String sql) {
+                Class<? extends Statement> type = statement instanceof CallableStatement
+                    ? CallableStatement.class
+                    : PreparedStatement.class;
+                return proxy(type, new StatementHandler(statement, sql));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null));
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final List<Object> parameters = new ArrayList<>();
+        private String readingSql;
+        private long rowsRead;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if ("close".equals(name)) {
+                // closing the statement closes its result set without going through the proxy
+                reportRowsRead();
+            }
+            Object result = ProfilingDataSource.invoke(statement, method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet) {
+                return countRows(resultSet, sql(args));
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            reportRowsRead();
+            String sql = sql(args);
+            long start = System.nanoTime();
+            Object result = null;
+            try {
+                result = ProfilingDataSource.invoke(statement, method, args);
+            } finally {
+                profiler.recordExecution(sql, System.nanoTime() - start, affectedRows(result), parameters);
+            }
+            if (result instanceof ResultSet resultSet) {
+                return countRows(resultSet, sql);
+            }
+            return result;
+        }
+
+        private String sql(Object[] args) {
+            if (preparedSql != null) {
+                return preparedSql;
+            }
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : "<batch>";
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+
+        private long affectedRows(Object result) {
+            return switch (result) {
+                case Integer count -> Math.max(count, 0);
+                case Long count -> Math.max(count, 0);
+                case int[] counts -> Arrays.stream(counts).filter(count -> count > 0).sum();
+                case long[] counts -> Arrays.stream(counts).filter(count -> count > 0).sum();
+                case null, default -> 0;
+            };
+        }
+
+        private ResultSet countRows(ResultSet resultSet, String sql) {
+            readingSql = sql;
+            rowsRead = 0;
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                Object result = ProfilingDataSource.invoke(resultSet, method, args);
+                if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                    rowsRead++;
+                } else if ("close".equals(method.getName())) {
+                    reportRowsRead();
+                }
+                return result;
+            });
+        }
+
+        private void reportRowsRead() {
+            if (readingSql != null) {
+                profiler.recordRows(readingSql, rowsRead);
+                readingSql = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package mn_react.infrastructure.persistence.profiling;
+
+import javax.sql.DataSource;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.order.Ordered;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+/**
+ * Wraps each pooled DataSource as it is created, so Micronaut Data, the export streamer and
+ * Flyway all go through the profiler without knowing about it.
+ *
+ * Runs before the other DataSource listeners: the profiler has to sit directly on the pool,
+ * underneath Micronaut Data's contextual-connection wrapper, or Flyway's listener ends up
+ * opening a connection through that wrapper while the DataSource is still being created.
+ */
+@Singleton
+@Requires(property = "books.query-profiler.enabled", notEquals = "false")
+public class ProfilingDataSourceListener implements BeanCreatedEventListener<DataSource>, Ordered {
+
+    private final Provider<QueryProfiler> profiler;
+
+    public ProfilingDataSourceListener(Provider<QueryProfiler> profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        return new ProfilingDataSource(event.getBean(), profiler.get());
+    }
+}
@@ -0,0 +1,145 @@
+package mn_react.infrastructure.persistence.profiling;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.inject.Singleton;
+
+/**
+ * Per-statement execution statistics, keyed by normalized SQL. The timers live in a private
+ * registry so statement text never becomes a Prometheus label.
+ */
+@Singleton
+public class QueryProfiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryProfiler.class);
+    private static final String OTHER = "<other statements>";
+    private static final String PROFILING_PACKAGE = QueryProfiler.class.getPackageName();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final QueryProfilerConfiguration configuration;
+    private final long slowThresholdNanos;
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private volatile SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    public QueryProfiler(QueryProfilerConfiguration configuration) {
+        this.configuration = configuration;
+        this.slowThresholdNanos = configuration.getSlowThreshold().toNanos();
+    }
+
+    public void recordExecution(String sql, long nanos, long rows, List<Object> parameters) {
+        Statistics stats = statisticsFor(sql);
+        stats.timer.record(nanos, TimeUnit.NANOSECONDS);
+        if (rows > 0) {
+            stats.rows.add(rows);
+        }
+        if (nanos >= slowThresholdNanos) {
+            stats.slow.increment();
+            LOG.warn("Slow statement ({} ms) from {}: {} parameters={}",
+                TimeUnit.NANOSECONDS.toMillis(nanos), caller(), sql, describe(parameters));
+        }
+    }
+
+    public void recordRows(String sql, long rows) {
+        statisticsFor(sql).rows.add(rows);
+    }
+
+    /** The most expensive statements by total execution time. */
+    public List<StatementStatistics> top(int limit) {
+        return statistics.entrySet().stream()
+            .map(entry -> entry.getValue().snapshot(entry.getKey()))
+            .sorted(Comparator.comparingDouble(StatementStatistics::totalMillis).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    public void reset() {
+        registry = new SimpleMeterRegistry();
+        statistics.clear();
+        normalized.clear();
+    }
+
+    private Statistics statisticsFor(String sql) {
+        String key = normalized.get(sql);
+        if (key == null) {
+            key = SqlNormalizer.normalize(sql);
+            // raw text is unbounded when literals are inlined; only remember it while there is room
+            if (normalized.size() < configuration.getMaxStatements() * 4) {
+                normalized.put(sql, key);
+            }
+        }
+        Statistics stats = statistics.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        String bucket = statistics.size() < configuration.getMaxStatements() ? key : OTHER;
+        SimpleMeterRegistry target = registry;
+        return statistics.computeIfAbsent(bucket, sqlKey -> new Statistics(target, sqlKey));
+    }
+
+    private String describe(List<Object> parameters) {
+        if (parameters.size() <= configuration.getMaxLoggedParameters()) {
+            return parameters.toString();
+        }
+        return parameters.subList(0, configuration.getMaxLoggedParameters())
+            + " (+" + (parameters.size() - configuration.getMaxLoggedParameters()) + " more)";
+    }
+
+    // the first application frame outside this package, skipping generated interceptors
+    private static String caller() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+            .filter(candidate -> candidate.getClassName().startsWith("mn_react.")
+                && !candidate.getClassName().startsWith(PROFILING_PACKAGE)
+                && !candidate.getClassName().contains("$"))
+            .findFirst());
+        return frame
+            .map(candidate -> candidate.getClassName() + "." + candidate.getMethodName()
+                + ":" + candidate.getLineNumber())
+            .orElse("unknown");
+    }
+
+    private static final class Statistics {
+
+        private final Timer timer;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        Statistics(SimpleMeterRegistry registry, String sql) {
+            this.timer = Timer.builder("books.jdbc.statement")
+                .tag("sql", sql)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        }
+
+        StatementStatistics snapshot(String sql) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            double[] percentiles = new double[3];
+            ValueAtPercentile[] values = snapshot.percentileValues();
+            for (int i = 0; i < values.length && i < percentiles.length; i++) {
+                percentiles[i] = values[i].value(TimeUnit.MILLISECONDS);
+            }
+            return new StatementStatistics(
+                sql,
+                snapshot.count(),
+                snapshot.total(TimeUnit.MILLISECONDS),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS),
+                percentiles[0],
+                percentiles[1],
+                percentiles[2],
+                rows.sum(),
+                slow.sum());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package mn_react.infrastructure.persistence.profiling;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.query-profiler")
+public class QueryProfilerConfiguration {
+
+    private boolean enabled = true;
+    private Duration slowThreshold = Duration.ofMillis(100);
+    private int maxStatements = 500;
+    private int maxLoggedParameters = 20;
+}
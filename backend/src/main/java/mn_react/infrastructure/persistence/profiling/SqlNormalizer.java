@@ -0,0 +1,25 @@
+package mn_react.infrastructure.persistence.profiling;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a statement to its shape so executions that differ only in literals or in the
+ * length of an {@code IN} list are aggregated together.
+ */
+final class SqlNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlNormalizer() {
+    }
+
+    static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?, ...)");
+    }
+}
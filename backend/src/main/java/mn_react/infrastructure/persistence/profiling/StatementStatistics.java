@@ -0,0 +1,22 @@
+package mn_react.infrastructure.persistence.profiling;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Aggregated timings for one normalized statement. Percentiles and max cover the recent
+ * window of the underlying timer; count, total and rows are cumulative since the last reset.
+ */
+@Serdeable
+public record StatementStatistics(
+    String sql,
+    long count,
+    double totalMillis,
+    double meanMillis,
+    double maxMillis,
+    double p50Millis,
+    double p95Millis,
+    double p99Millis,
+    long rows,
+    long slow
+) {
+}
@@ -0,0 +1,17 @@
+package mn_react.infrastructure.persistence.r2dbc;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.reactive")
+public class BookR2dbcConfiguration {
+
+    private boolean enabled;
+    private String url = "r2dbc:h2:mem:///testedb?options=DB_CLOSE_DELAY=-1";
+    private String username = "sa";
+    private String password = "";
+    private int maxPoolSize = 20;
+}
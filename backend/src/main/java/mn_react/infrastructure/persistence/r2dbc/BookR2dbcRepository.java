@@ -0,0 +1,178 @@
+package mn_react.infrastructure.persistence.r2dbc;
+
+import java.util.Locale;
+import java.util.function.Function;
+import io.micronaut.context.annotation.Requires;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.r2dbc.spi.R2dbcException;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import jakarta.inject.Singleton;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Singleton
+@Requires(property = "books.reactive.enabled", value = "true")
+public class BookR2dbcRepository implements ReactiveBookRepository {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private static final String SELECT_PAGE = """
+        SELECT id, title, pages, version FROM books
+        WHERE title_normalized LIKE $1
+        ORDER BY id DESC
+        LIMIT $2 OFFSET $3
+        """;
+    private static final String COUNT = "SELECT COUNT(*) FROM books WHERE title_normalized LIKE $1";
+    private static final String SELECT_BY_ID = "SELECT id, title, pages, version FROM books WHERE id = $1";
+    private static final String INSERT =
+        "INSERT INTO books (title, title_normalized, pages, version) VALUES ($1, $2, $3, 0)";
+    private static final String UPDATE = """
+        UPDATE books SET title = $1, title_normalized = $2, pages = $3, version = version + 1
+        WHERE id = $4 AND version = $5
+        """;
+    // the removed row, so a delete that lost a race to another one finds nothing
+    private static final String H2_DELETE =
+        "SELECT id, title, pages, version FROM OLD TABLE (DELETE FROM books WHERE id = $1)";
+    private static final String POSTGRESQL_DELETE =
+        "DELETE FROM books WHERE id = $1 RETURNING id, title, pages, version";
+    private static final String COUNT_BY_TITLE = "SELECT COUNT(*) FROM books WHERE title_normalized = $1";
+    private static final String COUNT_BY_TITLE_EXCLUDING =
+        "SELECT COUNT(*) FROM books WHERE title_normalized = $1 AND id <> $2";
+
+    private final ConnectionFactory connectionFactory;
+
+    public BookR2dbcRepository(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Flux<Book> findAll(int page, int size, String search) {
+        return query(SELECT_PAGE, BookR2dbcRepository::toBook, pattern(search), size, page * size);
+    }
+
+    @Override
+    public Mono<Long> count(String search) {
+        return query(COUNT, row -> row.get(0, Long.class), pattern(search)).single();
+    }
+
+    @Override
+    public Mono<Book> findById(Long id) {
+        return query(SELECT_BY_ID, BookR2dbcRepository::toBook, id).singleOrEmpty();
+    }
+
+    @Override
+    public Mono<Book> save(Book book) {
+        return Mono.usingWhen(connectionFactory.create(),
+                connection -> {
+                    Statement statement = connection.createStatement(INSERT).returnGeneratedValues("id");
+                    bind(statement, book.getTitle(), BookEntity.normalize(book.getTitle()), book.getPages());
+                    return Mono.from(statement.execute())
+                        .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Long.class))));
+                },
+                Connection::close)
+            .map(id -> Book.builder()
+                .id(id)
+                .title(book.getTitle())
+                .pages(book.getPages())
+                .version(0L)
+                .build())
+            .onErrorMap(R2dbcException.class, e -> duplicateTitle(book, e));
+    }
+
+    @Override
+    public Mono<Book> update(Book book) {
+        return rowsUpdated(UPDATE, book.getTitle(), BookEntity.normalize(book.getTitle()), book.getPages(),
+                book.getId(), book.getVersion())
+            .flatMap(rows -> rows == 0
+                ? Mono.error(new ConflictException("Book " + book.getId() + " was modified concurrently"))
+                : Mono.just(Book.builder()
+                    .id(book.getId())
+                    .title(book.getTitle())
+                    .pages(book.getPages())
+                    .version(book.getVersion() + 1)
+                    .build()))
+            .onErrorMap(R2dbcException.class, e -> duplicateTitle(book, e));
+    }
+
+    @Override
+    public Mono<Book> deleteById(Long id) {
+        return query(delete(), BookR2dbcRepository::toBook, id).singleOrEmpty();
+    }
+
+    @Override
+    public Mono<Boolean> existsByTitleIgnoreCase(String title) {
+        return query(COUNT_BY_TITLE, row -> row.get(0, Long.class) > 0, BookEntity.normalize(title)).single();
+    }
+
+    @Override
+    public Mono<Boolean> existsByTitleIgnoreCaseAndIdNot(String title, Long id) {
+        return query(COUNT_BY_TITLE_EXCLUDING, row -> row.get(0, Long.class) > 0, BookEntity.normalize(title), id)
+            .single();
+    }
+
+    private <T> Flux<T> query(String sql, Function<Row, T> mapper, Object... parameters) {
+        return Flux.usingWhen(connectionFactory.create(),
+            connection -> {
+                Statement statement = connection.createStatement(sql);
+                bind(statement, parameters);
+                return Flux.from(statement.execute())
+                    .flatMap(result -> result.map((row, metadata) -> mapper.apply(row)));
+            },
+            Connection::close);
+    }
+
+    private Mono<Long> rowsUpdated(String sql, Object... parameters) {
+        return Mono.usingWhen(connectionFactory.create(),
+            connection -> {
+                Statement statement = connection.createStatement(sql);
+                bind(statement, parameters);
+                return Flux.from(statement.execute())
+                    .flatMap(result -> result.getRowsUpdated())
+                    .reduce(0L, Long::sum);
+            },
+            Connection::close);
+    }
+
+    private static void bind(Statement statement, Object... parameters) {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.bind(i, parameters[i]);
+        }
+    }
+
+    private String delete() {
+        String product = connectionFactory.getMetadata().getName();
+        return switch (product.toLowerCase(Locale.ROOT)) {
+            case "h2" -> H2_DELETE;
+            case "postgresql" -> POSTGRESQL_DELETE;
+            default -> throw new DataAccessException("Unsupported database for book deletes: " + product);
+        };
+    }
+
+    // blank searches match every title, like the JDBC adapter
+    private static String pattern(String search) {
+        return search == null ? "%" : "%" + search.toLowerCase(Locale.ROOT) + "%";
+    }
+
+    private static Book toBook(Row row) {
+        return Book.builder()
+            .id(row.get("id", Long.class))
+            .title(row.get("title", String.class))
+            .pages(row.get("pages", Integer.class))
+            .version(row.get("version", Long.class))
+            .build();
+    }
+
+    private static Throwable duplicateTitle(Book book, R2dbcException e) {
+        if (UNIQUE_VIOLATION.equals(e.getSqlState())) {
+            return new ConflictException("A book with title '" + book.getTitle() + "' already exists");
+        }
+        return e;
+    }
+}
@@ -0,0 +1,91 @@
+package mn_react.infrastructure.persistence.routing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import io.micronaut.http.context.ServerRequestContext;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.domain.entities.Book;
+
+/**
+ * Decides where a read runs. HTTP requests carry the route chosen for them under
+ * {@link #ROUTE_ATTRIBUTE}; reads outside a request go to the replica. Reads nested in another
+ * routed read follow the outer one.
+ *
+ * Caches are shared by every session, so a read that fills one stays on the primary for
+ * {@code max-replica-lag} after any write made through this instance, or seen by
+ * {@link mn_react.infrastructure.persistence.BookChangeCounter}; otherwise the replica could put
+ * a row back into a cache the write has just invalidated.
+ */
+@Singleton
+public class BookReadRouter implements BookChangeListener {
+
+    public static final String ROUTE_ATTRIBUTE = "books.read-route";
+
+    private final boolean enabled;
+    private final long maxReplicaLagNanos;
+    private final AtomicLong lastWrite;
+
+    public BookReadRouter(BookReadRoutingConfiguration configuration) {
+        this.enabled = configuration.isEnabled();
+        this.maxReplicaLagNanos = configuration.getMaxReplicaLag().toNanos();
+        this.lastWrite = new AtomicLong(System.nanoTime() - maxReplicaLagNanos);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (RoutingDataSource.currentRoute() != null) {
+            return query.get();
+        }
+        return RoutingDataSource.route(route(false), query);
+    }
+
+    public <T> T readForCache(Supplier<T> query) {
+        if (RoutingDataSource.currentRoute() != null) {
+            return query.get();
+        }
+        return RoutingDataSource.route(route(true), query);
+    }
+
+    /**
+     * The route {@link #read} or, with {@code forCache}, {@link #readForCache} would take here.
+     */
+    public ReadRoute route(boolean forCache) {
+        ReadRoute current = RoutingDataSource.currentRoute();
+        if (current != null) {
+            return current;
+        }
+        boolean recentWrite = System.nanoTime() - lastWrite.get() < maxReplicaLagNanos;
+        return forCache && recentWrite ? ReadRoute.PRIMARY : requested();
+    }
+
+    private ReadRoute requested() {
+        if (!enabled) {
+            return ReadRoute.PRIMARY;
+        }
+        return ServerRequestContext.currentRequest()
+            .flatMap(request -> request.getAttribute(ROUTE_ATTRIBUTE, ReadRoute.class))
+            .orElse(ReadRoute.REPLICA);
+    }
+
+    /**
+     * A write this instance did not make, seen through the database's change counter.
+     */
+    public void onExternalChange() {
+        lastWrite.set(System.nanoTime());
+    }
+
+    @Override
+    public void onCreated(Book book) {
+        lastWrite.set(System.nanoTime());
+    }
+
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        lastWrite.set(System.nanoTime());
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        lastWrite.set(System.nanoTime());
+    }
+}
@@ -0,0 +1,19 @@
+package mn_react.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.read-routing")
+public class BookReadRoutingConfiguration {
+
+    public static final String REPLICA_DATASOURCE = "replica";
+
+    private boolean enabled = true;
+    private Duration maxReplicaLag = Duration.ofSeconds(2);
+    private String header = "X-Books-Read-From";
+    private String cookie = "books-last-write";
+}
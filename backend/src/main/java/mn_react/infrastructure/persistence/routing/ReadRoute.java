@@ -0,0 +1,6 @@
+package mn_react.infrastructure.persistence.routing;
+
+public enum ReadRoute {
+    PRIMARY,
+    REPLICA
+}
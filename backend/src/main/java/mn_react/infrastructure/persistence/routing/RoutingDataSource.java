@@ -0,0 +1,99 @@
+package mn_react.infrastructure.persistence.routing;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import jakarta.inject.Provider;
+
+/**
+ * The primary DataSource, except that connections opened inside {@link #route} with
+ * {@link ReadRoute#REPLICA} come from the replica pool. Only a new connection is routed: a read
+ * inside a transaction keeps using the primary connection the transaction is bound to.
+ */
+public class RoutingDataSource implements DataSource {
+
+    private static final ThreadLocal<ReadRoute> ROUTE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final Provider<DataSource> replica;
+
+    public RoutingDataSource(DataSource primary, Provider<DataSource> replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    public static <T> T route(ReadRoute route, Supplier<T> work) {
+        ReadRoute outer = ROUTE.get();
+        ROUTE.set(route);
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) {
+                ROUTE.remove();
+            } else {
+                ROUTE.set(outer);
+            }
+        }
+    }
+
+    public static ReadRoute currentRoute() {
+        return ROUTE.get();
+    }
+
+    public DataSource getTargetDataSource() {
+        return primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    private DataSource target() {
+        return ROUTE.get() == ReadRoute.REPLICA ? replica.get() : primary;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+        return type.isInstance(primary) ? type.cast(primary) : primary.unwrap(type);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) throws SQLException {
+        return type.isInstance(primary) || primary.isWrapperFor(type);
+    }
+}
@@ -0,0 +1,43 @@
+package mn_react.infrastructure.persistence.routing;
+
+import javax.sql.DataSource;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+/**
+ * Puts the {@link RoutingDataSource} over the default pool once a {@code replica} datasource is
+ * configured. Ordered after the profiler so both pools are profiled, and still underneath
+ * Micronaut Data's contextual wrapper so transactions bind whatever connection was routed.
+ * The replica is looked up on the first routed read, after both pools exist.
+ */
+@Singleton
+@Requires(property = "books.read-routing.enabled", notEquals = "false")
+@Requires(property = "datasources." + BookReadRoutingConfiguration.REPLICA_DATASOURCE + ".url")
+public class RoutingDataSourceListener implements BeanCreatedEventListener<DataSource>, Ordered {
+
+    private final BeanProvider<DataSource> replica;
+
+    public RoutingDataSourceListener(@Named(BookReadRoutingConfiguration.REPLICA_DATASOURCE) BeanProvider<DataSource> replica) {
+        this.replica = replica;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        if (!"default".equals(event.getBeanIdentifier().getName())) {
+            return event.getBean();
+        }
+        // the replica's own contextual wrapper only hands out connections it opened itself
+        return new RoutingDataSource(event.getBean(), () -> DelegatingDataSource.unwrapDataSource(replica.get()));
+    }
+}
@@ -0,0 +1,108 @@
+package mn_react.infrastructure.search;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcStreamer;
+import mn_react.infrastructure.persistence.routing.ReadRoute;
+import mn_react.infrastructure.persistence.routing.RoutingDataSource;
+
+/**
+ * Title index loaded once from the primary, then kept current by this instance's writes only.
+ * Titles written through another instance are not found, so it is for single-node deployments.
+ */
+@Singleton
+public class BookSearchIndex implements BookChangeListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookSearchIndex.class);
+
+    private final BookJdbcStreamer streamer;
+    private final boolean enabled;
+    private final TrigramTitleIndex index = new TrigramTitleIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    public BookSearchIndex(
+        BookJdbcStreamer streamer,
+        @Value("${books.search-index.enabled:true}") boolean enabled
+    ) {
+        this.streamer = streamer;
+        this.enabled = enabled;
+    }
+
+    public Optional<long[]> findMatchingIds(String search) {
+        if (!enabled || !TrigramTitleIndex.supports(search)) {
+            return Optional.empty();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return Optional.of(index.search(search));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCreated(Book book) {
+        write(() -> index.add(book.getId(), book.getTitle()));
+    }
+
+    @Override
+    public void onUpdated(Book previous, Book current) {
+        write(() -> index.add(current.getId(), current.getTitle()));
+    }
+
+    @Override
+    public void onDeleted(Book book) {
+        write(() -> index.remove(book.getId()));
+    }
+
+    private void write(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            // before the first load the database already holds the change
+            if (loaded) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long start = System.nanoTime();
+            // changes before the load are dropped, so it must see every committed write
+            RoutingDataSource.route(ReadRoute.PRIMARY, () -> {
+                try (Stream<BookEntity> books = streamer.streamAll()) {
+                    books.forEach(book -> index.add(book.getId(), book.getTitle()));
+                }
+                return null;
+            });
+            loaded = true;
+            LOG.info("Indexed {} book titles in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
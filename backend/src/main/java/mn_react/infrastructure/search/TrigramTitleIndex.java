@@ -0,0 +1,202 @@
+package mn_react.infrastructure.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trigram inverted index over lower-cased titles. Not thread-safe; callers guard it.
+ *
+ * Every add appends a new document number, so posting lists stay sorted and can be
+ * merged. Removals leave tombstones that are compacted once they outnumber live documents.
+ */
+public class TrigramTitleIndex {
+
+    static final int GRAM = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long[] NO_MATCHES = new long[0];
+
+    private long[] bookIds = new long[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private int documents;
+    private int tombstones;
+    private final Map<Long, Integer> documentByBookId = new HashMap<>();
+    private Map<Long, Postings> postings = new HashMap<>();
+
+    public static boolean supports(String term) {
+        if (term == null || term.length() < GRAM) {
+            return false;
+        }
+        // LIKE wildcards and H2's default escape character keep their SQL meaning
+        return term.indexOf('%') < 0 && term.indexOf('_') < 0 && term.indexOf('\\') < 0;
+    }
+
+    public int size() {
+        return documentByBookId.size();
+    }
+
+    public void add(long bookId, String title) {
+        remove(bookId);
+        String normalized = normalize(title);
+        int document = documents++;
+        ensureCapacity(documents);
+        bookIds[document] = bookId;
+        titles[document] = normalized;
+        documentByBookId.put(bookId, document);
+        for (long gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(document);
+        }
+    }
+
+    public void remove(long bookId) {
+        Integer document = documentByBookId.remove(bookId);
+        if (document == null) {
+            return;
+        }
+        titles[document] = null;
+        tombstones++;
+        if (tombstones > INITIAL_CAPACITY && tombstones > documentByBookId.size()) {
+            compact();
+        }
+    }
+
+    public void clear() {
+        bookIds = new long[INITIAL_CAPACITY];
+        titles = new String[INITIAL_CAPACITY];
+        documents = 0;
+        tombstones = 0;
+        documentByBookId.clear();
+        postings = new HashMap<>();
+    }
+
+    /**
+     * Book ids whose title matches {@code LOWER(title) LIKE LOWER('%' || term || '%')},
+     * highest id first. Only valid for terms accepted by {@link #supports(String)}.
+     */
+    public long[] search(String term) {
+        String needle = normalize(term);
+        long[] grams = grams(needle);
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return NO_MATCHES;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] candidates = Arrays.copyOf(lists[0].documents, lists[0].size);
+        int count = candidates.length;
+        // very common grams barely narrow the candidates; the substring check covers them
+        for (int i = 1; i < lists.length && count > 0 && lists[i].size / 32 <= count; i++) {
+            count = intersect(candidates, count, lists[i]);
+        }
+
+        long[] matches = new long[count];
+        int found = 0;
+        boolean ascending = true;
+        for (int i = 0; i < count; i++) {
+            String title = titles[candidates[i]];
+            if (title != null && title.contains(needle)) {
+                long bookId = bookIds[candidates[i]];
+                ascending &= found == 0 || matches[found - 1] < bookId;
+                matches[found++] = bookId;
+            }
+        }
+        matches = Arrays.copyOf(matches, found);
+        // ids are usually inserted in order; only updated titles break the sequence
+        if (!ascending) {
+            Arrays.sort(matches);
+        }
+        reverse(matches);
+        return matches;
+    }
+
+    static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long[] grams(String value) {
+        int total = value.length() - GRAM + 1;
+        if (total <= 0) {
+            return NO_MATCHES;
+        }
+        long[] grams = new long[total];
+        for (int i = 0; i < total; i++) {
+            grams[i] = ((long) value.charAt(i) << 32)
+                | ((long) value.charAt(i + 1) << 16)
+                | value.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static int intersect(int[] candidates, int count, Postings list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < list.size; i++) {
+            from = gallop(list, from, candidates[i]);
+            if (from < list.size && list.documents[from] == candidates[i]) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return kept;
+    }
+
+    private static int gallop(Postings list, int from, int target) {
+        int step = 1;
+        int high = from;
+        while (high < list.size && list.documents[high] < target) {
+            from = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(list.documents, from, Math.min(high, list.size - 1) + 1, target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > titles.length) {
+            int capacity = Math.max(required, titles.length * 2);
+            bookIds = Arrays.copyOf(bookIds, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+        }
+    }
+
+    private void compact() {
+        long[] liveIds = new long[documentByBookId.size()];
+        String[] liveTitles = new String[documentByBookId.size()];
+        int live = 0;
+        for (int document = 0; document < documents; document++) {
+            if (titles[document] != null) {
+                liveIds[live] = bookIds[document];
+                liveTitles[live++] = titles[document];
+            }
+        }
+        clear();
+        for (int i = 0; i < live; i++) {
+            add(liveIds[i], liveTitles[i]);
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package mn_react.infrastructure.seed;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("books.seed")
+public class BookSeedConfiguration {
+
+    public enum Distribution {
+        UNIFORM,
+        ZIPF
+    }
+
+    private int rows;
+    private long randomSeed = 42;
+    private Distribution distribution = Distribution.ZIPF;
+    private int minWords = 2;
+    private int maxWords = 5;
+    private int batchSize = 1000;
+    private int connections = 4;
+}
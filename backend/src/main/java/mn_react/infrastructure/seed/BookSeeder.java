@@ -0,0 +1,116 @@
+package mn_react.infrastructure.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.data.exceptions.DataAccessException;
+import jakarta.inject.Singleton;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcRepository;
+import mn_react.infrastructure.seed.BookTitleGenerator.SeedBook;
+
+/**
+ * Fills an empty database when the context starts, before the HTTP server accepts requests.
+ * With {@code books.seed.rows} unset only the three sample books are inserted; otherwise the
+ * synthetic rows are written in JDBC batches, each connection loading its own contiguous range.
+ */
+@Singleton
+public class BookSeeder implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookSeeder.class);
+
+    private static final String INSERT =
+        "INSERT INTO books (title, title_normalized, pages, version) VALUES (?, ?, ?, 0)";
+
+    private final BookJdbcRepository bookJdbcRepository;
+    private final DataSource dataSource;
+    private final BookSeedConfiguration configuration;
+
+    public BookSeeder(
+        BookJdbcRepository bookJdbcRepository,
+        DataSource dataSource,
+        BookSeedConfiguration configuration
+    ) {
+        this.bookJdbcRepository = bookJdbcRepository;
+        this.dataSource = DelegatingDataSource.unwrapDataSource(dataSource);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        if (bookJdbcRepository.count() > 0) {
+            return;
+        }
+        if (configuration.getRows() <= 0) {
+            bookJdbcRepository.save(BookEntity.builder().title("The Lord of the Rings").pages(1178).build());
+            bookJdbcRepository.save(BookEntity.builder().title("The Hobbit").pages(310).build());
+            bookJdbcRepository.save(BookEntity.builder().title("Harry Potter").pages(223).build());
+            return;
+        }
+        seed(configuration.getRows());
+    }
+
+    private void seed(int rows) {
+        BookTitleGenerator generator = new BookTitleGenerator(configuration);
+        int connections = Math.max(1, Math.min(configuration.getConnections(), rows / configuration.getBatchSize() + 1));
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(connections)) {
+            List<Future<?>> loads = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                long from = (long) rows * i / connections;
+                long to = (long) rows * (i + 1) / connections;
+                loads.add(executor.submit(() -> {
+                    insert(generator, from, to);
+                    return null;
+                }));
+            }
+            for (Future<?> load : loads) {
+                load.get();
+            }
+        } catch (ExecutionException e) {
+            throw new DataAccessException("Failed to seed books", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while seeding books", e);
+        }
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        LOG.info("Seeded {} books in {} ms ({} rows/s) over {} connections",
+            rows, millis, rows * 1000L / millis, connections);
+    }
+
+    private void insert(BookTitleGenerator generator, long from, long to) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (long row = from; row < to; row++) {
+                SeedBook book = generator.book(row);
+                statement.setString(1, book.title());
+                statement.setString(2, BookEntity.normalize(book.title()));
+                statement.setInt(3, book.pages());
+                statement.addBatch();
+                if (++pending == configuration.getBatchSize()) {
+                    statement.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+            }
+        }
+    }
+}
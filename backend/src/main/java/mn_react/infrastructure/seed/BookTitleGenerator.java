@@ -0,0 +1,82 @@
+package mn_react.infrastructure.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import mn_react.infrastructure.seed.BookSeedConfiguration.Distribution;
+
+/**
+ * Deterministic synthetic books. Every row draws from its own generator seeded by the row number,
+ * so the data set does not depend on how rows are split across connections. Titles end with the
+ * row number, which keeps them unique however the words repeat.
+ */
+public class BookTitleGenerator {
+
+    // roughly by frequency; ZIPF draws the first words far more often, like real titles
+    private static final String[] WORDS = {
+        "night", "house", "river", "dark", "last", "lost", "secret", "city", "king", "garden",
+        "shadow", "winter", "silent", "stone", "light", "blood", "sea", "fire", "world", "empire",
+        "girl", "road", "dream", "star", "forest", "war", "glass", "iron", "summer", "time",
+        "golden", "broken", "wild", "hidden", "queen", "island", "storm", "bone", "crown", "mountain",
+        "silver", "black", "white", "red", "long", "little", "ancient", "burning", "forgotten", "northern",
+        "salt", "ash", "moon", "wind", "heart", "orchard", "harbor", "tower", "letter", "daughter",
+        "machine", "memory", "mirror", "map", "thief", "bridge", "field", "song", "ghost", "kingdom",
+        "hollow", "lantern", "wolf", "raven", "tide", "valley", "desert", "library", "clock", "meadow",
+        "crimson", "velvet", "quiet", "restless", "distant", "bitter", "gentle", "endless", "paper", "copper",
+        "cathedral", "lighthouse", "labyrinth", "meridian", "archive", "atlas", "compass", "equinox", "solstice", "horizon",
+        "alchemist", "cartographer", "watchmaker", "physician", "navigator", "astronomer", "orphan", "stranger", "pilgrim", "widow"
+    };
+
+    private static final double MEDIAN_PAGES = 280;
+    private static final double PAGES_SPREAD = 0.5;
+
+    private final long randomSeed;
+    private final Distribution distribution;
+    private final int minWords;
+    private final int maxWords;
+    private final double[] cumulativeWeights;
+
+    public BookTitleGenerator(BookSeedConfiguration configuration) {
+        this.randomSeed = configuration.getRandomSeed();
+        this.distribution = configuration.getDistribution();
+        this.minWords = Math.max(1, configuration.getMinWords());
+        this.maxWords = Math.max(minWords, configuration.getMaxWords());
+        this.cumulativeWeights = new double[WORDS.length];
+        double total = 0;
+        for (int rank = 0; rank < WORDS.length; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulativeWeights[rank] = total;
+        }
+    }
+
+    public SeedBook book(long row) {
+        SplittableRandom random = new SplittableRandom(randomSeed ^ (row * 0x9E3779B97F4A7C15L));
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder title = new StringBuilder(64);
+        if (random.nextInt(3) == 0) {
+            title.append("The ");
+        }
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(words >= 3 && i == (words + 1) / 2 ? " of " : " ");
+            }
+            String word = WORDS[pick(random)];
+            title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        title.append(", Vol. ").append(row + 1);
+
+        double pages = MEDIAN_PAGES * Math.exp(PAGES_SPREAD * random.nextGaussian());
+        return new SeedBook(title.toString(), (int) Math.max(1, Math.min(10_000, Math.round(pages))));
+    }
+
+    private int pick(SplittableRandom random) {
+        if (distribution == Distribution.UNIFORM) {
+            return random.nextInt(WORDS.length);
+        }
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public record SeedBook(String title, int pages) {
+    }
+}
@@ -0,0 +1,10 @@
+-- title_normalized is LOWER(title), maintained by the application: H2 has no expression
+-- indexes, so the lower-cased key is materialized and indexed instead
+CREATE TABLE books (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    title_normalized VARCHAR(255) NOT NULL,
+    pages INTEGER NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT ux_books_title_normalized UNIQUE (title_normalized)
+);
@@ -0,0 +1,9 @@
+-- identifies this database in the collection ETag, so a recreated database never repeats a
+-- tag; the changes themselves are counted by the books_changes_seq sequence of the vendor
+-- migration, which no writer has to lock
+CREATE TABLE books_changes (
+    id INTEGER PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO books_changes (id, created_at) VALUES (1, CURRENT_TIMESTAMP);
@@ -0,0 +1,20 @@
+-- bumped once per changed row: H2 cannot run a statement from a statement trigger in an
+-- auto-commit statement, and its triggers are Java, compiled here so the application does
+-- not depend on H2's classes
+CREATE SEQUENCE books_changes_seq NO CACHE;
+
+CREATE TRIGGER books_changed AFTER INSERT, UPDATE, DELETE ON books FOR EACH ROW AS $$
+org.h2.api.Trigger create() {
+    return (connection, oldRow, newRow) -> {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT NEXT VALUE FOR books_changes_seq").close();
+        }
+    };
+}
+$$;
+
+CREATE VIEW books_changes_state AS
+SELECT changes.id, changes.created_at, sequences.base_value AS version
+FROM books_changes changes
+CROSS JOIN information_schema.sequences sequences
+WHERE sequences.sequence_schema = CURRENT_SCHEMA AND sequences.sequence_name = 'BOOKS_CHANGES_SEQ';
@@ -0,0 +1,4 @@
+-- serves the '%term%' title searches; a b-tree cannot help with a leading wildcard
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX ix_books_title_normalized_trgm ON books USING gin (title_normalized gin_trgm_ops);
@@ -0,0 +1,20 @@
+CREATE SEQUENCE books_changes_seq;
+
+CREATE FUNCTION books_changed() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM nextval('books_changes_seq');
+    RETURN NULL;
+END
+$$;
+
+-- deferred to commit, so a reader rarely sees the new value before the rows it counts
+CREATE CONSTRAINT TRIGGER books_changed AFTER INSERT OR UPDATE OR DELETE ON books
+    DEFERRABLE INITIALLY DEFERRED FOR EACH ROW EXECUTE FUNCTION books_changed();
+
+CREATE TRIGGER books_truncated AFTER TRUNCATE ON books
+    FOR EACH STATEMENT EXECUTE FUNCTION books_changed();
+
+CREATE VIEW books_changes_state AS
+SELECT changes.id, changes.created_at, sequences.last_value AS version
+FROM books_changes changes
+CROSS JOIN books_changes_seq sequences;
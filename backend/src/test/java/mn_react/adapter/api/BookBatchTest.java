@@ -0,0 +1,109 @@
+package mn_react.adapter.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookBatchItemResponse;
+import mn_react.infrastructure.http.dto.responses.BookBatchResponse;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+
+@MicronautTest
+class BookBatchTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void batchCreateReportsEveryItem() {
+        client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Batch Existing", "pages", 10)));
+
+        List<Map<String, Object>> payload = List.of(
+            Map.of("title", "Batch  One", "pages", 100),
+            Map.of("title", "batch existing", "pages", 100),
+            Map.of("title", "Batch Two", "pages", 0),
+            Map.of("title", "BATCH ONE", "pages", 100),
+            Map.of("title", "Batch Three", "pages", 300)
+        );
+        BookBatchResponse response = client.toBlocking()
+            .retrieve(HttpRequest.POST("/books/batch", payload), BookBatchResponse.class);
+
+        Assertions.assertEquals(2, response.getSucceeded());
+        Assertions.assertEquals(3, response.getFailed());
+        Assertions.assertEquals(List.of("CREATED", "DUPLICATE", "INVALID", "DUPLICATE", "CREATED"),
+            response.getItems().stream().map(BookBatchItemResponse::getStatus).toList());
+        Assertions.assertEquals("Batch One", response.getItems().get(0).getBook().getTitle());
+        Assertions.assertNotNull(response.getItems().get(4).getId());
+    }
+
+    @Test
+    void batchPatchReportsEveryItem() {
+        long first = create("Patch First", 10);
+        long second = create("Patch Second", 20);
+
+        List<Map<String, Object>> payload = List.of(
+            Map.of("id", first, "pages", 11),
+            Map.of("id", second, "title", "patch first"),
+            Map.of("id", 999_999, "pages", 5),
+            Map.of("id", second, "title", "Patch Renamed")
+        );
+        BookBatchResponse response = client.toBlocking()
+            .retrieve(HttpRequest.PATCH("/books/batch", payload), BookBatchResponse.class);
+
+        Assertions.assertEquals(List.of("UPDATED", "DUPLICATE", "NOT_FOUND", "INVALID"),
+            response.getItems().stream().map(BookBatchItemResponse::getStatus).toList());
+        Assertions.assertEquals(11, response.getItems().get(0).getBook().getPages());
+        Assertions.assertEquals("Patch First", response.getItems().get(0).getBook().getTitle());
+    }
+
+    @Test
+    void batchDeleteReportsMissingIds() {
+        long first = create("Delete First", 10);
+        long second = create("Delete Second", 20);
+
+        BookBatchResponse response = client.toBlocking().retrieve(
+            HttpRequest.DELETE("/books", Map.of("ids", List.of(first, 999_999, second))),
+            BookBatchResponse.class);
+
+        Assertions.assertEquals(2, response.getSucceeded());
+        Assertions.assertEquals(List.of("DELETED", "NOT_FOUND", "DELETED"),
+            response.getItems().stream().map(BookBatchItemResponse::getStatus).toList());
+        Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(HttpRequest.GET("/books/" + first)));
+    }
+
+    @Test
+    void concurrentBatchDeletesReportEachBookOnce() throws Exception {
+        List<Long> ids = IntStream.range(0, 50).mapToObj(i -> create("Delete Race " + i, 10)).toList();
+        Callable<BookBatchResponse> delete = () -> client.toBlocking().retrieve(
+            HttpRequest.DELETE("/books", Map.of("ids", ids)), BookBatchResponse.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BookBatchResponse> first = executor.submit(delete);
+            Future<BookBatchResponse> second = executor.submit(delete);
+
+            Assertions.assertEquals(ids.size(), first.get().getSucceeded() + second.get().getSucceeded());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long create(String title, int pages) {
+        return client.toBlocking()
+            .retrieve(HttpRequest.POST("/books", Map.of("title", title, "pages", pages)), BookResponse.class)
+            .getId();
+    }
+}
@@ -0,0 +1,78 @@
+package mn_react.adapter.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.sse.SseClient;
+import io.micronaut.http.sse.Event;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import reactor.core.publisher.Flux;
+
+@MicronautTest(transactional = false)
+class BookChangesTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    @Client("/")
+    SseClient sseClient;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void subscribersReceiveWritesAndResumeFromTheLastEventId() throws Exception {
+        CompletableFuture<List<Event<BookResponse>>> live = changes(null).take(2).collectList().toFuture();
+        awaitSubscribers(1);
+
+        BookResponse created = client.toBlocking().retrieve(
+            HttpRequest.POST("/books", Map.of("title", "Streamed Book", "pages", 100)), BookResponse.class);
+        client.toBlocking().exchange(HttpRequest.PUT("/books/" + created.getId(), Map.of("title", "Streamed Book II", "pages", 120)));
+
+        List<Event<BookResponse>> received = live.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of("created", "updated"), received.stream().map(Event::getName).toList());
+        Assertions.assertEquals("Streamed Book II", received.get(1).getData().getTitle());
+
+        client.toBlocking().exchange(HttpRequest.DELETE("/books/" + created.getId()));
+        List<Event<BookResponse>> missed = changes(received.get(0).getId()).take(2).collectList().block(TIMEOUT);
+
+        Assertions.assertEquals(List.of("updated", "deleted"), missed.stream().map(Event::getName).toList());
+        Assertions.assertEquals(created.getId(), missed.get(1).getData().getId());
+    }
+
+    @Test
+    void unknownLastEventIdAsksForAReload() {
+        Event<BookResponse> first = changes("999999").blockFirst(TIMEOUT);
+
+        Assertions.assertEquals("reset", first.getName());
+    }
+
+    private Flux<Event<BookResponse>> changes(String lastEventId) {
+        HttpRequest<?> request = lastEventId == null
+            ? HttpRequest.GET("/books/changes")
+            : HttpRequest.GET("/books/changes").header("Last-Event-ID", lastEventId);
+        return Flux.from(sseClient.eventStream(request, BookResponse.class));
+    }
+
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (registry.get("books.changes.subscribers").gauge().value() != expected) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "subscribers never reached " + expected);
+            Thread.sleep(10);
+        }
+    }
+}
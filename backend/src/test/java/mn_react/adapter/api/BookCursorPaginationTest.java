@@ -0,0 +1,63 @@
+package mn_react.adapter.api;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+
+@MicronautTest
+class BookCursorPaginationTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void cursorPagesMatchOffsetPages() {
+        for (int i = 0; i < 5; i++) {
+            client.toBlocking().exchange(HttpRequest.POST("/books",
+                Map.of("title", "Cursor Book " + i, "pages", 100 + i)));
+        }
+
+        Page first = client.toBlocking()
+            .retrieve(HttpRequest.GET("/books?size=2&search=cursor"), Page.class);
+        Assertions.assertNotNull(first.nextCursor());
+
+        Page second = client.toBlocking()
+            .retrieve(HttpRequest.GET("/books?size=2&search=cursor&after=" + first.nextCursor()), Page.class);
+        Page offsetSecond = client.toBlocking()
+            .retrieve(HttpRequest.GET("/books?page=1&size=2&search=cursor"), Page.class);
+
+        Assertions.assertEquals(ids(offsetSecond.content()), ids(second.content()));
+        Assertions.assertEquals(5L, second.totalElements());
+        Assertions.assertNull(second.page());
+    }
+
+    @Test
+    void malformedCursorReturnsBadRequest() {
+        HttpClientResponseException ex = Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(HttpRequest.GET("/books?after=not-a-cursor"),
+                Argument.of(String.class), Argument.of(ErrorResponse.class)));
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @Serdeable
+    record Page(List<BookResponse> content, Integer page, Long totalElements, String nextCursor) {
+    }
+
+    private List<Long> ids(List<BookResponse> books) {
+        return books.stream().map(BookResponse::getId).toList();
+    }
+}
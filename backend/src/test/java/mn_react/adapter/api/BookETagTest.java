@@ -0,0 +1,78 @@
+package mn_react.adapter.api;
+
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+
+@MicronautTest
+class BookETagTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void unchangedBookReturnsNotModified() {
+        BookResponse book = create("ETag Single");
+        HttpResponse<BookResponse> first = client.toBlocking()
+            .exchange(HttpRequest.GET("/books/" + book.getId()), BookResponse.class);
+        String etag = first.header(HttpHeaders.ETAG);
+
+        HttpResponse<BookResponse> second = client.toBlocking().exchange(
+            HttpRequest.GET("/books/" + book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag), BookResponse.class);
+
+        Assertions.assertNotNull(etag);
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, second.getStatus());
+    }
+
+    @Test
+    void collectionTagChangesOnWrite() {
+        String etag = client.toBlocking().exchange(HttpRequest.GET("/books"), String.class).header(HttpHeaders.ETAG);
+        HttpResponse<String> unchanged = client.toBlocking().exchange(
+            HttpRequest.GET("/books").header(HttpHeaders.IF_NONE_MATCH, etag), String.class);
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatus());
+
+        create("ETag Collection");
+        HttpResponse<String> changed = client.toBlocking().exchange(
+            HttpRequest.GET("/books").header(HttpHeaders.IF_NONE_MATCH, etag), String.class);
+
+        Assertions.assertEquals(HttpStatus.OK, changed.getStatus());
+        Assertions.assertNotEquals(etag, changed.header(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        BookResponse book = create("ETag Locking");
+        String etag = client.toBlocking()
+            .exchange(HttpRequest.GET("/books/" + book.getId()), BookResponse.class).header(HttpHeaders.ETAG);
+
+        HttpResponse<BookResponse> updated = client.toBlocking().exchange(
+            HttpRequest.PUT("/books/" + book.getId(), Map.of("title", "ETag Locking", "pages", 120))
+                .header(HttpHeaders.IF_MATCH, etag), BookResponse.class);
+        Assertions.assertNotEquals(etag, updated.header(HttpHeaders.ETAG));
+
+        HttpClientResponseException ex = Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(
+                HttpRequest.PUT("/books/" + book.getId(), Map.of("title", "ETag Locking", "pages", 130))
+                    .header(HttpHeaders.IF_MATCH, etag),
+                Argument.of(BookResponse.class), Argument.of(ErrorResponse.class)));
+        Assertions.assertEquals(HttpStatus.PRECONDITION_FAILED, ex.getStatus());
+    }
+
+    private BookResponse create(String title) {
+        return client.toBlocking()
+            .retrieve(HttpRequest.POST("/books", Map.of("title", title, "pages", 100)), BookResponse.class);
+    }
+}
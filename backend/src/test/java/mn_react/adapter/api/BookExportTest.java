@@ -0,0 +1,38 @@
+package mn_react.adapter.api;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+
+@MicronautTest
+class BookExportTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void exportStreamsEveryBook() {
+        for (int i = 0; i < 3; i++) {
+            client.toBlocking().exchange(HttpRequest.POST("/books",
+                Map.of("title", "Export Book " + i, "pages", 50 + i)));
+        }
+
+        String body = client.toBlocking().retrieve(
+            HttpRequest.GET("/books/export").accept("application/x-ndjson"));
+        List<BookResponse> unpaged = client.toBlocking().retrieve(
+            HttpRequest.GET("/books?page=-1"), Argument.listOf(BookResponse.class));
+
+        Assertions.assertTrue(unpaged.size() >= 3);
+        Assertions.assertEquals(unpaged.size(), body.lines().count());
+        Assertions.assertTrue(body.lines().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+    }
+}
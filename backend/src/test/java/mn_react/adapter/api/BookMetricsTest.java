@@ -0,0 +1,37 @@
+package mn_react.adapter.api;
+
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+
+@MicronautTest
+class BookMetricsTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void prometheusExposesUseCaseRepositoryAndPoolMetrics() {
+        client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Metered Book", "pages", 120)));
+        Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Metered Book", "pages", 120)),
+                Argument.of(String.class), Argument.of(ErrorResponse.class)));
+
+        String scrape = client.toBlocking().retrieve(HttpRequest.GET("/prometheus"));
+
+        Assertions.assertTrue(scrape.contains("books_usecase_seconds_count{operation=\"create\",outcome=\"success\"}"));
+        Assertions.assertTrue(scrape.contains("books_usecase_seconds_count{operation=\"create\",outcome=\"conflict\"}"));
+        Assertions.assertTrue(scrape.contains("books_repository_seconds_count{operation=\"save\",outcome=\"success\"}"));
+        Assertions.assertTrue(scrape.contains("hikaricp_connections_active"));
+        Assertions.assertTrue(scrape.contains("http_server_requests_seconds_count"));
+    }
+}
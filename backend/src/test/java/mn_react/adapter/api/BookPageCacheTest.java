@@ -0,0 +1,92 @@
+package mn_react.adapter.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.netty.buffer.ByteBuf;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.caching.BookPageCache;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+
+@MicronautTest
+class BookPageCacheTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    BookPageCache pageCache;
+
+    @Test
+    void repeatedPagesAreServedFromCacheUntilAWrite() {
+        client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Cached Page One", "pages", 10)));
+
+        HttpResponse<Page> first = client.toBlocking().exchange(HttpRequest.GET("/books?size=3&search=Cached"), Page.class);
+        long hits = pageCache.stats().hitCount();
+        HttpResponse<Page> second = client.toBlocking().exchange(HttpRequest.GET("/books?size=3&search=cached"), Page.class);
+
+        Assertions.assertEquals(hits + 1, pageCache.stats().hitCount());
+        Assertions.assertEquals(first.header(HttpHeaders.ETAG), second.header(HttpHeaders.ETAG));
+        Assertions.assertEquals(titles(first.body()), titles(second.body()));
+        Assertions.assertEquals("application/json", second.header(HttpHeaders.CONTENT_TYPE));
+
+        client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Cached Page Two", "pages", 20)));
+        Page third = client.toBlocking().retrieve(HttpRequest.GET("/books?size=3&search=cached"), Page.class);
+
+        Assertions.assertEquals(List.of("Cached Page Two", "Cached Page One"), titles(third));
+        Assertions.assertEquals(2L, third.totalElements());
+    }
+
+    @Test
+    void readsRacingInvalidationAreMissesNotErrors() throws Exception {
+        byte[] json = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    pageCache.put(7, 7, "race", "etag", json).release();
+                    pageCache.onCreated(null);
+                }
+            });
+            List<Future<?>> readers = List.of(executor.submit(() -> read(deadline)), executor.submit(() -> read(deadline)));
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void read(long deadline) {
+        while (System.nanoTime() < deadline) {
+            ByteBuf body = pageCache.get(7, 7, "race", "etag");
+            if (body != null) {
+                body.release();
+            }
+        }
+    }
+
+    @Serdeable
+    record Page(List<BookResponse> content, Integer page, Long totalElements, String nextCursor) {
+    }
+
+    private List<String> titles(Page page) {
+        return page.content().stream().map(BookResponse::getTitle).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package mn_react.adapter.api;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.persistence.profiling.StatementStatistics;
+
+@MicronautTest
+class BookQueriesEndpointTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void statementsAreAggregatedByShape() {
+        for (int i = 0; i < 3; i++) {
+            client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Profiled Book " + i, "pages", 50)));
+        }
+        client.toBlocking().exchange(HttpRequest.DELETE("/books", Map.of("ids", List.of(1_000_001, 1_000_002))));
+        client.toBlocking().exchange(HttpRequest.DELETE("/books", Map.of("ids", List.of(1_000_003, 1_000_004, 1_000_005))));
+
+        List<StatementStatistics> top = client.toBlocking().retrieve(
+            HttpRequest.GET("/bookqueries?top=100"), Argument.listOf(StatementStatistics.class));
+
+        StatementStatistics insert = top.stream()
+            .filter(stats -> stats.sql().toUpperCase().replaceAll("[`\"]", "").startsWith("INSERT INTO BOOKS "))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertTrue(insert.count() >= 3);
+        Assertions.assertTrue(insert.rows() >= 3);
+        Assertions.assertTrue(insert.p99Millis() >= insert.p50Millis());
+
+        List<StatementStatistics> byIds = top.stream()
+            .filter(stats -> stats.sql().contains("IN (?, ...)"))
+            .toList();
+        Assertions.assertFalse(byIds.isEmpty());
+        Assertions.assertTrue(byIds.stream().anyMatch(stats -> stats.count() >= 2));
+    }
+}
@@ -0,0 +1,82 @@
+package mn_react.adapter.api;
+
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.cookie.Cookie;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+
+// the "replica" is a second, empty H2 database: a book found there was read from the primary
+@MicronautTest(transactional = false)
+@Property(name = "datasources.replica.url", value = "jdbc:h2:mem:books-replica;DB_CLOSE_DELAY=-1")
+@Property(name = "datasources.replica.driver-class-name", value = "org.h2.Driver")
+@Property(name = "datasources.replica.dialect", value = "H2")
+@Property(name = "datasources.replica.db-type", value = "postgres")
+@Property(name = "datasources.replica.username", value = "sa")
+@Property(name = "datasources.replica.password", value = "")
+@Property(name = "flyway.datasources.replica.enabled", value = "true")
+@Property(name = "flyway.datasources.replica.locations", value = "classpath:db/migration/common")
+@Property(name = "flyway.datasources.replica.clean-schema", value = "true")
+@Property(name = "flyway.datasources.replica.clean-disabled", value = "false")
+@Property(name = "books.by-id-cache.enabled", value = "false")
+class BookReadRoutingTest {
+
+    private static final String MARKER = "books-last-write";
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void writersReadTheirWritesFromThePrimary() {
+        HttpResponse<BookResponse> created = client.toBlocking().exchange(
+            HttpRequest.POST("/books", Map.of("title", "Routed Write", "pages", 100)), BookResponse.class);
+        Cookie marker = created.getCookie(MARKER).orElseThrow();
+        Long id = created.body().getId();
+
+        Assertions.assertEquals(HttpStatus.OK, status(HttpRequest.GET("/books/" + id).cookie(marker)));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, status(HttpRequest.GET("/books/" + id)));
+    }
+
+    @Test
+    void headerOverridesTheMarker() {
+        HttpResponse<BookResponse> created = client.toBlocking().exchange(
+            HttpRequest.POST("/books", Map.of("title", "Routed Header", "pages", 100)), BookResponse.class);
+        Cookie marker = created.getCookie(MARKER).orElseThrow();
+        Long id = created.body().getId();
+
+        Assertions.assertEquals(HttpStatus.OK,
+            status(HttpRequest.GET("/books/" + id).header("X-Books-Read-From", "primary")));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND,
+            status(HttpRequest.GET("/books/" + id).cookie(marker).header("X-Books-Read-From", "replica")));
+    }
+
+    @Test
+    void expiredMarkerReadsTheReplica() {
+        Long id = client.toBlocking().retrieve(
+            HttpRequest.POST("/books", Map.of("title", "Routed Expired", "pages", 100)), BookResponse.class).getId();
+        Cookie expired = Cookie.of(MARKER, Long.toString(System.currentTimeMillis() - 60_000));
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, status(HttpRequest.GET("/books/" + id).cookie(expired)));
+    }
+
+    private HttpStatus status(MutableHttpRequest<?> request) {
+        try {
+            return client.toBlocking().exchange(request, Argument.of(String.class), Argument.of(ErrorResponse.class)).getStatus();
+        } catch (HttpClientResponseException e) {
+            return e.getStatus();
+        }
+    }
+}
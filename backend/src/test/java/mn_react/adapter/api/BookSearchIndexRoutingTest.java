@@ -0,0 +1,58 @@
+package mn_react.adapter.api;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+
+// the "replica" is a second, empty H2 database that never catches up with the primary
+@MicronautTest(transactional = false)
+@Property(name = "datasources.replica.url", value = "jdbc:h2:mem:books-index-replica;DB_CLOSE_DELAY=-1")
+@Property(name = "datasources.replica.driver-class-name", value = "org.h2.Driver")
+@Property(name = "datasources.replica.dialect", value = "H2")
+@Property(name = "datasources.replica.db-type", value = "postgres")
+@Property(name = "datasources.replica.username", value = "sa")
+@Property(name = "datasources.replica.password", value = "")
+@Property(name = "flyway.datasources.replica.enabled", value = "true")
+@Property(name = "flyway.datasources.replica.locations", value = "classpath:db/migration/common")
+@Property(name = "flyway.datasources.replica.clean-schema", value = "true")
+@Property(name = "flyway.datasources.replica.clean-disabled", value = "false")
+// nothing may keep a read on the primary or serve it from an earlier one
+@Property(name = "books.read-routing.max-replica-lag", value = "0s")
+@Property(name = "books.page-cache.enabled", value = "false")
+@Property(name = "books.page-coalescing.enabled", value = "false")
+class BookSearchIndexRoutingTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void indexLoadsFromThePrimary() throws SQLException {
+        // written behind the application's back
+        try (Connection connection = DelegatingDataSource.unwrapDataSource(dataSource).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO books (title, title_normalized, pages, version) "
+                + "VALUES ('Routed Zanzibar', 'routed zanzibar', 100, 0)");
+        }
+
+        // the first search reads the replica and loads the index
+        client.toBlocking().retrieve(HttpRequest.GET("/books?search=zanzibar"), String.class);
+        String found = client.toBlocking().retrieve(
+            HttpRequest.GET("/books?search=zanzibar").header("X-Books-Read-From", "primary"), String.class);
+
+        Assertions.assertTrue(found.contains("Routed Zanzibar"), found);
+    }
+}
@@ -0,0 +1,80 @@
+package mn_react.adapter.api;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.BlockingHttpClient;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.runtime.server.EmbeddedServer;
+
+// two nodes on one database: a tag handed out by one must not survive a write made elsewhere
+class BookSharedETagTest {
+
+    private static final Map<String, Object> PROPERTIES = Map.of(
+        "micronaut.server.port", -1,
+        "datasources.default.url", "jdbc:h2:mem:books-shared-etag;DB_CLOSE_DELAY=-1",
+        // each node reads the change count on every request instead of within max-age
+        "books.change-counter.max-age", "0s");
+
+    private static EmbeddedServer nodeA;
+    private static EmbeddedServer nodeB;
+    private static HttpClient clientA;
+    private static HttpClient clientB;
+
+    @BeforeAll
+    static void start() {
+        nodeA = ApplicationContext.run(EmbeddedServer.class, PROPERTIES);
+        nodeB = ApplicationContext.run(EmbeddedServer.class, PROPERTIES);
+        clientA = nodeA.getApplicationContext().createBean(HttpClient.class, nodeA.getURL());
+        clientB = nodeB.getApplicationContext().createBean(HttpClient.class, nodeB.getURL());
+    }
+
+    @AfterAll
+    static void stop() {
+        clientA.close();
+        clientB.close();
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void aWriteThroughAnotherNodeChangesTheCollectionTag() {
+        BlockingHttpClient a = clientA.toBlocking();
+        String etag = a.exchange(HttpRequest.GET("/books"), String.class).header(HttpHeaders.ETAG);
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, get(a, etag).getStatus());
+
+        clientB.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Written On B", "pages", 100)));
+
+        HttpResponse<String> changed = get(a, etag);
+        Assertions.assertEquals(HttpStatus.OK, changed.getStatus());
+        Assertions.assertTrue(changed.body().contains("Written On B"));
+    }
+
+    @Test
+    void aWriteOutsideTheApplicationChangesTheCollectionTag() throws Exception {
+        BlockingHttpClient a = clientA.toBlocking();
+        String etag = a.exchange(HttpRequest.GET("/books"), String.class).header(HttpHeaders.ETAG);
+
+        DataSource dataSource = DelegatingDataSource.unwrapDataSource(nodeA.getApplicationContext().getBean(DataSource.class));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE books SET pages = pages + 1");
+        }
+
+        Assertions.assertEquals(HttpStatus.OK, get(a, etag).getStatus());
+    }
+
+    private static HttpResponse<String> get(BlockingHttpClient client, String etag) {
+        return client.exchange(HttpRequest.GET("/books").header(HttpHeaders.IF_NONE_MATCH, etag), String.class);
+    }
+}
@@ -0,0 +1,71 @@
+package mn_react.adapter.api;
+
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+
+// with the by-id cache off no read can hide behind it, so these are worst-case counts
+@MicronautTest(transactional = false)
+@Property(name = "books.by-id-cache.enabled", value = "false")
+class BookWriteConnectionsTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void singleBookWritesCheckOutOneConnection() {
+        long before = acquisitions();
+        BookResponse created = client.toBlocking().retrieve(
+            HttpRequest.POST("/books", Map.of("title", "Single Trip", "pages", 100)), BookResponse.class);
+        Assertions.assertEquals(1, acquisitions() - before);
+
+        before = acquisitions();
+        client.toBlocking().exchange(HttpRequest.PUT("/books/" + created.getId(), Map.of("title", "Single Trip II", "pages", 120))
+            .header("If-Match", "\"" + created.getId() + "-" + created.getVersion() + "\""));
+        Assertions.assertEquals(1, acquisitions() - before);
+
+        before = acquisitions();
+        client.toBlocking().exchange(HttpRequest.DELETE("/books/" + created.getId()));
+        Assertions.assertEquals(1, acquisitions() - before);
+    }
+
+    @Test
+    void missedUpdatesTellMissingFromStale() {
+        BookResponse created = client.toBlocking().retrieve(
+            HttpRequest.POST("/books", Map.of("title", "Stale Trip", "pages", 100)), BookResponse.class);
+
+        Assertions.assertEquals(HttpStatus.PRECONDITION_FAILED, status(HttpRequest.PUT("/books/" + created.getId(),
+            Map.of("title", "Stale Trip", "pages", 101)).header("If-Match", "\"" + created.getId() + "-99\"")));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, status(HttpRequest.PUT("/books/" + (created.getId() + 1000),
+            Map.of("title", "Missing Trip", "pages", 101))));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, status(HttpRequest.DELETE("/books/" + (created.getId() + 1000))));
+    }
+
+    private HttpStatus status(MutableHttpRequest<?> request) {
+        HttpClientResponseException ex = Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(request, Argument.of(String.class), Argument.of(ErrorResponse.class)));
+        return ex.getStatus();
+    }
+
+    private long acquisitions() {
+        return registry.find("hikaricp.connections.acquire").timers().stream().mapToLong(Timer::count).sum();
+    }
+}
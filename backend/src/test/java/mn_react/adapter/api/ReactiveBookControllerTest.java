@@ -0,0 +1,75 @@
+package mn_react.adapter.api;
+
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.exception.ErrorResponse;
+
+@MicronautTest
+@Property(name = "books.reactive.enabled", value = "true")
+class ReactiveBookControllerTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void reactiveAndBlockingAdaptersShareTheTable() {
+        BookResponse created = client.toBlocking().retrieve(
+            HttpRequest.POST("/reactive/books", Map.of("title", "  Reactive   Dune ", "pages", 412)), BookResponse.class);
+        BookResponse blocking = client.toBlocking().retrieve("/books/" + created.getId(), BookResponse.class);
+
+        Assertions.assertEquals("Reactive Dune", created.getTitle());
+        Assertions.assertEquals(created.getVersion(), blocking.getVersion());
+
+        BookResponse updated = client.toBlocking().retrieve(
+            HttpRequest.PUT("/reactive/books/" + created.getId(), Map.of("title", "Reactive Dune", "pages", 500)),
+            BookResponse.class);
+        Assertions.assertEquals(500, client.toBlocking().retrieve("/books/" + created.getId(), BookResponse.class).getPages());
+        Assertions.assertEquals(created.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void duplicateTitleIsAConflict() {
+        client.toBlocking().exchange(HttpRequest.POST("/books", Map.of("title", "Reactive Duplicate", "pages", 10)));
+
+        HttpClientResponseException ex = Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(
+                HttpRequest.POST("/reactive/books", Map.of("title", "REACTIVE duplicate", "pages", 10)),
+                Argument.of(BookResponse.class), Argument.of(ErrorResponse.class)));
+
+        Assertions.assertEquals(HttpStatus.CONFLICT, ex.getStatus());
+    }
+
+    @Test
+    void aSecondDeleteIsNotFound() {
+        BookResponse created = client.toBlocking().retrieve(
+            HttpRequest.POST("/reactive/books", Map.of("title", "Reactive Deleted Once", "pages", 10)), BookResponse.class);
+
+        client.toBlocking().exchange(HttpRequest.DELETE("/reactive/books/" + created.getId()));
+        HttpClientResponseException ex = Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(HttpRequest.DELETE("/reactive/books/" + created.getId()),
+                Argument.of(Void.class), Argument.of(ErrorResponse.class)));
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
+    }
+
+    @Test
+    void deletingAMissingBookIsNotFound() {
+        HttpClientResponseException ex = Assertions.assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().exchange(HttpRequest.DELETE("/reactive/books/987654"),
+                Argument.of(Void.class), Argument.of(ErrorResponse.class)));
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
+    }
+}
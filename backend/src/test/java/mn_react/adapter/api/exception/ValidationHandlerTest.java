@@ -42,4 +42,19 @@ class ValidationHandlerTest {
                 "response.errors[] should contain the validation message; got: "
                         + resp.getErrors());
     }
+
+    @Test
+    void tooManyPagesOnCreateExplainsTheLimit() {
+        MutableHttpRequest<String> req =
+                HttpRequest.POST("/books", "{\"title\":\"Too Long\",\"pages\":10001}").accept("application/json");
+
+        HttpClientResponseException ex =
+                Assertions.assertThrows(HttpClientResponseException.class, () -> {
+                    client.toBlocking().exchange(req, Argument.of(String.class), Argument.of(String.class));
+                });
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+        String body = ex.getResponse().getBody(String.class).orElse("");
+        Assertions.assertTrue(body.contains("Pages cannot exceed 10000 (unrealistic book size)"), body);
+    }
 }
@@ -0,0 +1,40 @@
+package mn_react.application.usecase.book.impl;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+
+class CreateBookBatchUseCaseImplTest {
+
+    private final BookRepository repository = mock(BookRepository.class);
+    private final CreateBookBatchUseCaseImpl useCase = new CreateBookBatchUseCaseImpl(repository, List.of());
+
+    @Test
+    void titleTakenConcurrentlyConflictsOnlyThatItem() {
+        // free when checked, taken by the time the batch is inserted
+        when(repository.findIdsByTitleIgnoreCase(anyCollection()))
+            .thenReturn(Map.of())
+            .thenReturn(Map.of("raced", 7L));
+        when(repository.saveAll(anyList()))
+            .thenThrow(new ConflictException("A title in the batch already exists"))
+            .thenReturn(List.of(Book.builder().id(8L).title("Kept").pages(10).build()));
+
+        List<BookBatchResult> results = useCase.execute(List.of(
+            Book.builder().title("Raced").pages(10).build(),
+            Book.builder().title("Kept").pages(10).build()));
+
+        Assertions.assertEquals(BookBatchResult.Status.CONFLICT, results.get(0).getStatus());
+        Assertions.assertEquals(BookBatchResult.Status.CREATED, results.get(1).getStatus());
+        Assertions.assertEquals(8L, results.get(1).getId());
+    }
+}
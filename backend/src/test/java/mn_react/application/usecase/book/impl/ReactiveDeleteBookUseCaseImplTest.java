@@ -0,0 +1,41 @@
+package mn_react.application.usecase.book.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import mn_react.application.listener.BookChangeListener;
+import mn_react.application.repository.ReactiveBookRepository;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.NotFoundException;
+import reactor.core.publisher.Mono;
+
+class ReactiveDeleteBookUseCaseImplTest {
+
+    private final ReactiveBookRepository repository = mock(ReactiveBookRepository.class);
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final ReactiveDeleteBookUseCaseImpl useCase = new ReactiveDeleteBookUseCaseImpl(repository, List.of(
+        new BookChangeListener() {
+            @Override
+            public void onDeleted(Book book) {
+                deleted.incrementAndGet();
+            }
+        }));
+
+    @Test
+    void onlyTheDeleteThatRemovedTheRowNotifies() {
+        // a concurrent delete got the row first, although the book was still there when this one began
+        when(repository.findById(1L)).thenReturn(Mono.just(Book.builder().id(1L).title("Raced").pages(10).build()));
+        when(repository.deleteById(1L))
+            .thenReturn(Mono.just(Book.builder().id(1L).title("Raced").pages(10).version(0L).build()))
+            .thenReturn(Mono.empty());
+
+        useCase.execute(1L).block();
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(1L).block());
+
+        Assertions.assertEquals(1, deleted.get());
+    }
+}
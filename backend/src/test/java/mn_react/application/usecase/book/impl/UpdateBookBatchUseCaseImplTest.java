@@ -0,0 +1,52 @@
+package mn_react.application.usecase.book.impl;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
+import mn_react.application.usecase.book.BookBatchResult;
+import mn_react.application.usecase.book.BookPatch;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+
+class UpdateBookBatchUseCaseImplTest {
+
+    private final BookRepository repository = mock(BookRepository.class);
+    private final UpdateBookBatchUseCaseImpl useCase = new UpdateBookBatchUseCaseImpl(repository, List.of());
+
+    @Test
+    void concurrentlyModifiedBookConflictsOnlyThatItem() {
+        Book stale = book(1L, "Stale", 1L);
+        Book fresh = book(2L, "Fresh", 1L);
+        when(repository.findAllById(anyCollection())).thenReturn(List.of(stale, fresh));
+        when(repository.findIdsByTitleIgnoreCase(anyCollection())).thenReturn(Map.of());
+        when(repository.updateAll(anyList())).thenThrow(new ConflictException("A book in the batch was modified concurrently"));
+        when(repository.updateIfMatches(argThat(book -> book != null && book.getId() == 1L), eq(1L))).thenReturn(Optional.empty());
+        when(repository.updateIfMatches(argThat(book -> book != null && book.getId() == 2L), eq(1L)))
+            .thenReturn(Optional.of(new BookUpdate(fresh, book(2L, "Fresh", 2L))));
+
+        List<BookBatchResult> results = useCase.execute(List.of(patch(1L), patch(2L)));
+
+        Assertions.assertEquals(BookBatchResult.Status.CONFLICT, results.get(0).getStatus());
+        Assertions.assertEquals(BookBatchResult.Status.UPDATED, results.get(1).getStatus());
+        Assertions.assertEquals(2L, results.get(1).getBook().getVersion());
+    }
+
+    private static BookPatch patch(Long id) {
+        return BookPatch.builder().id(id).pages(50).build();
+    }
+
+    private static Book book(Long id, String title, Long version) {
+        return Book.builder().id(id).title(title).pages(10).version(version).build();
+    }
+}
@@ -0,0 +1,54 @@
+package mn_react.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.cache.BookCountCacheConfiguration.Mode;
+
+class BookCountCacheTest {
+
+    @Test
+    void createInvalidatesOnlyMatchingTerms() {
+        BookCountCache cache = new BookCountCache(new BookCountCacheConfiguration());
+        AtomicInteger queries = new AtomicInteger();
+
+        cache.get("hob", () -> { queries.incrementAndGet(); return 1; });
+        cache.get("ring", () -> { queries.incrementAndGet(); return 1; });
+        cache.onCreated(book(10L, "The Hobbit Returns"));
+
+        Assertions.assertEquals(2, cache.get("HOB", () -> { queries.incrementAndGet(); return 2; }));
+        Assertions.assertEquals(1, cache.get("ring", () -> { queries.incrementAndGet(); return 99; }));
+        Assertions.assertEquals(3, queries.get());
+    }
+
+    @Test
+    void updateOnlyTouchesTermsWhoseMembershipChanged() {
+        BookCountCache cache = new BookCountCache(new BookCountCacheConfiguration());
+
+        cache.get("", () -> 5);
+        cache.get("potter", () -> 1);
+        cache.onUpdated(book(1L, "Harry Potter"), book(1L, "Harry Potter 2"));
+
+        Assertions.assertEquals(5, cache.get("", () -> 99));
+        Assertions.assertEquals(1, cache.get("potter", () -> 99));
+    }
+
+    @Test
+    void estimatedModeAdjustsTotalsInPlace() {
+        BookCountCacheConfiguration configuration = new BookCountCacheConfiguration();
+        configuration.setMode(Mode.ESTIMATED);
+        BookCountCache cache = new BookCountCache(configuration);
+
+        cache.get("", () -> 5);
+        cache.get("potter", () -> 1);
+        cache.onDeleted(book(1L, "Harry Potter"));
+
+        Assertions.assertEquals(4, cache.get("", () -> 99));
+        Assertions.assertEquals(0, cache.get("potter", () -> 99));
+    }
+
+    private static Book book(Long id, String title) {
+        return Book.builder().id(id).title(title).pages(100).build();
+    }
+}
@@ -0,0 +1,55 @@
+package mn_react.infrastructure.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.persistence.routing.BookReadRoutingConfiguration;
+
+class CachingBookRepositoryTest {
+
+    private final BookRepository delegate = mock(BookRepository.class);
+    private final CachingBookRepository repository =
+        new CachingBookRepository(
+            delegate, new BookReadRouter(new BookReadRoutingConfiguration()), new BookByIdCacheConfiguration());
+
+    @Test
+    void repeatedLookupsHitTheCache() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Emma")));
+
+        repository.findById(1L);
+        repository.findById(1L).orElseThrow().setTitle("mutated by caller");
+
+        Assertions.assertEquals("Emma", repository.findById(1L).orElseThrow().getTitle());
+        verify(delegate, times(1)).findById(1L);
+        Assertions.assertEquals(2, repository.stats().hitCount());
+    }
+
+    @Test
+    void writesRefreshOrEvictTheEntry() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "Emma")));
+        when(delegate.updateIfMatches(any(Book.class), any()))
+            .thenReturn(Optional.of(new BookUpdate(book(1L, "Emma"), book(1L, "Persuasion"))));
+
+        repository.findById(1L);
+        repository.updateIfMatches(book(1L, "Persuasion"), null);
+        Assertions.assertEquals("Persuasion", repository.findById(1L).orElseThrow().getTitle());
+
+        repository.deleteById(1L);
+        when(delegate.findById(1L)).thenReturn(Optional.empty());
+        Assertions.assertTrue(repository.findById(1L).isEmpty());
+    }
+
+    private static Book book(Long id, String title) {
+        return Book.builder().id(id).title(title).pages(100).build();
+    }
+}
@@ -0,0 +1,189 @@
+package mn_react.infrastructure.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mn_react.application.listener.BookEventConsumer;
+import mn_react.domain.entities.Book;
+import mn_react.domain.events.BookCreated;
+import mn_react.domain.events.BookEvent;
+import mn_react.infrastructure.event.BookEventConfiguration.Overflow;
+
+class BookEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void deliversInOrderAndInBatches() {
+        Recording consumer = new Recording("recording");
+        BookEventBus bus = bus(Overflow.DROP_OLDEST, 1000, consumer);
+        for (long id = 1; id <= 500; id++) {
+            bus.publish(new BookCreated(book(id)));
+        }
+        bus.close();
+
+        Assertions.assertEquals(500, consumer.ids().size());
+        Assertions.assertEquals(ids(1, 500), consumer.ids());
+        Assertions.assertTrue(consumer.batches.stream().allMatch(size -> size <= 16));
+        Assertions.assertEquals(0.0, lag("recording"));
+    }
+
+    @Test
+    void aFullQueueDropsInsteadOfBlockingTheWriter() throws Exception {
+        Blocking consumer = new Blocking();
+        BookEventBus bus = bus(Overflow.DROP_OLDEST, 8, consumer);
+        bus.publish(new BookCreated(book(0)));
+        Assertions.assertTrue(consumer.started.await(5, TimeUnit.SECONDS));
+
+        for (long id = 1; id <= 100; id++) {
+            bus.publish(new BookCreated(book(id)));
+        }
+        await(() -> registry.get("books.events.dropped").tag("consumer", "blocking").counter().count() > 0);
+        Assertions.assertTrue(lag("blocking") > 0);
+
+        consumer.release.countDown();
+        bus.close();
+        // the oldest were dropped, so the newest survived
+        Assertions.assertEquals(100L, consumer.last);
+        Assertions.assertEquals(0.0, lag("blocking"));
+    }
+
+    @Test
+    void droppedEventsAreReportedAsMissed() throws Exception {
+        Blocking consumer = new Blocking();
+        BookEventBus bus = bus(Overflow.DROP_LATEST, 8, consumer);
+        bus.publish(new BookCreated(book(0)));
+        Assertions.assertTrue(consumer.started.await(5, TimeUnit.SECONDS));
+
+        for (long id = 1; id <= 100; id++) {
+            bus.publish(new BookCreated(book(id)));
+        }
+        consumer.release.countDown();
+        bus.close();
+
+        Assertions.assertTrue(consumer.missed.get() > 0);
+        Assertions.assertEquals(101, consumer.delivered.get() + consumer.missed.get());
+    }
+
+    @Test
+    void aFailingConsumerDoesNotStopTheOthers() {
+        Recording healthy = new Recording("healthy");
+        BookEventConsumer failing = new BookEventConsumer() {
+            @Override
+            public void consume(List<BookEvent> events) {
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public String name() {
+                return "failing";
+            }
+        };
+        BookEventBus bus = bus(Overflow.DROP_OLDEST, 1000, failing, healthy);
+        for (long id = 1; id <= 50; id++) {
+            bus.publish(new BookCreated(book(id)));
+        }
+        bus.close();
+
+        Assertions.assertEquals(ids(1, 50), healthy.ids());
+        Assertions.assertTrue(registry.get("books.events.failures").tag("consumer", "failing").counter().count() > 0);
+        Assertions.assertEquals(0.0, lag("failing"));
+    }
+
+    private BookEventBus bus(Overflow overflow, int capacity, BookEventConsumer... consumers) {
+        BookEventConfiguration configuration = new BookEventConfiguration();
+        configuration.setOverflow(overflow);
+        configuration.setConsumerCapacity(capacity);
+        configuration.setBatchSize(16);
+        return new BookEventBus(configuration, List.of(consumers), registry);
+    }
+
+    private double lag(String consumer) {
+        return registry.get("books.events.lag").tag("consumer", consumer).gauge().value();
+    }
+
+    private static List<Long> ids(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Book book(long id) {
+        return Book.builder().id(id).title("Book " + id).pages(100).version(0L).build();
+    }
+
+    private static final class Recording implements BookEventConsumer {
+
+        private final String name;
+        private final List<BookEvent> events = new ArrayList<>();
+        private final List<Integer> batches = new ArrayList<>();
+
+        Recording(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public synchronized void consume(List<BookEvent> batch) {
+            events.addAll(batch);
+            batches.add(batch.size());
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        synchronized List<Long> ids() {
+            return events.stream().map(event -> event.book().getId()).toList();
+        }
+    }
+
+    // holds the first batch until released, like a consumer stuck on a slow downstream
+    private static final class Blocking implements BookEventConsumer {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong missed = new AtomicLong();
+        private volatile long last;
+
+        @Override
+        public void consume(List<BookEvent> events) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            last = events.getLast().book().getId();
+            delivered.addAndGet(events.size());
+        }
+
+        @Override
+        public void missed(long count) {
+            missed.addAndGet(count);
+        }
+
+        @Override
+        public String name() {
+            return "blocking";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package mn_react.infrastructure.http.caching;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.http.dto.responses.PagedResponse;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.persistence.routing.BookReadRoutingConfiguration;
+
+class BookPageCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @Test
+    void concurrentIdenticalReadsShareOneQuery() throws Exception {
+        BookPageCoalescer coalescer = coalescer(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<PagedResponse<BookResponse>> slowQuery = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return page();
+        };
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PagedResponse<BookResponse>>> responses = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String search = i % 2 == 0 ? "Dune" : "dune";
+                responses.add(clients.submit(() -> coalescer.readForCache(0, 10, search, "\"v1\"", slowQuery)));
+            }
+            await(() -> count("collapsed") == 19);
+            release.countDown();
+
+            PagedResponse<BookResponse> first = responses.get(0).get();
+            for (Future<PagedResponse<BookResponse>> response : responses) {
+                Assertions.assertSame(first, response.get());
+            }
+        }
+        Assertions.assertEquals(1, queries.get());
+        Assertions.assertEquals(1.0, count("executed"));
+    }
+
+    @Test
+    void aFinishedPageIsSharedOnlyWithinTheWindowAndTheSameETag() throws Exception {
+        BookPageCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+        coalescer.read(0, 10, null, null, "\"v1\"", this::page);
+        coalescer.read(0, 10, null, null, "\"v1\"", this::page);
+        Assertions.assertEquals(1, queries.get());
+
+        // a write changed the collection ETag
+        coalescer.read(0, 10, null, null, "\"v2\"", this::page);
+        Assertions.assertEquals(2, queries.get());
+
+        BookPageCoalescer unshared = coalescer(Duration.ZERO);
+        unshared.read(0, 10, null, null, "\"v1\"", this::page);
+        unshared.read(0, 10, null, null, "\"v1\"", this::page);
+        Assertions.assertEquals(4, queries.get());
+    }
+
+    @Test
+    void aFailedReadIsNotShared() {
+        BookPageCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+        Assertions.assertThrows(IllegalStateException.class, () -> coalescer.read(0, 10, null, null, "\"v1\"", () -> {
+            throw new IllegalStateException("connection lost");
+        }));
+
+        Assertions.assertNotNull(coalescer.read(0, 10, null, null, "\"v1\"", this::page));
+        Assertions.assertEquals(1, queries.get());
+    }
+
+    private BookPageCoalescer coalescer(Duration window) {
+        BookPageCoalescingConfiguration configuration = new BookPageCoalescingConfiguration();
+        configuration.setWindow(window);
+        return new BookPageCoalescer(configuration, new BookReadRouter(new BookReadRoutingConfiguration()), registry);
+    }
+
+    private PagedResponse<BookResponse> page() {
+        queries.incrementAndGet();
+        return PagedResponse.<BookResponse>builder().content(List.of()).page(0).size(10).totalElements(0L).build();
+    }
+
+    private double count(String name) {
+        return registry.get("books.page-coalescing." + name).counter().count();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package mn_react.infrastructure.http.feed;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mn_react.domain.entities.Book;
+import mn_react.domain.events.BookCreated;
+import mn_react.infrastructure.http.feed.BookChange.Type;
+import mn_react.infrastructure.http.feed.BookChangeFeedConfiguration.Overflow;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+class BookChangeFeedTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void replaysOnlyWhatTheSubscriberMissed() {
+        BookChangeFeed feed = feed(Overflow.DISCONNECT, 8);
+        for (long id = 1; id <= 3; id++) {
+            feed.consume(List.of(new BookCreated(book(id))));
+        }
+
+        List<BookChange> missed = feed.changes(1L).take(2).collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(List.of(2L, 3L), missed.stream().map(BookChange::id).toList());
+    }
+
+    @Test
+    void aSubscriberThatFellOutOfTheHistoryIsReset() {
+        BookChangeFeed feed = feed(Overflow.DISCONNECT, 2);
+        for (long id = 1; id <= 5; id++) {
+            feed.consume(List.of(new BookCreated(book(id))));
+        }
+
+        BookChange first = feed.changes(1L).blockFirst(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(Type.RESET, first.type());
+        Assertions.assertEquals(5L, first.id());
+    }
+
+    @Test
+    void changesDroppedBeforeTheFeedResetTheSubscribers() {
+        BookChangeFeed feed = feed(Overflow.DISCONNECT, 8);
+        feed.consume(List.of(new BookCreated(book(1))));
+        feed.missed(3);
+        feed.consume(List.of(new BookCreated(book(5))));
+
+        List<BookChange> resumed = feed.changes(1L).take(2).collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(List.of(Type.RESET, Type.CREATED), resumed.stream().map(BookChange::type).toList());
+        Assertions.assertEquals(List.of(2L, 3L), resumed.stream().map(BookChange::id).toList());
+    }
+
+    @Test
+    void stalledSubscribersAreDisconnected() {
+        BookChangeFeed feed = feed(Overflow.DISCONNECT, 8);
+        Disposable stalled = feed.changes(null).subscribeWith(new Stalled());
+        Assertions.assertEquals(1.0, subscribers());
+
+        for (long id = 1; id <= 100; id++) {
+            feed.consume(List.of(new BookCreated(book(id))));
+        }
+
+        await(() -> subscribers() == 0.0);
+        stalled.dispose();
+    }
+
+    @Test
+    void droppingPoliciesKeepTheSubscriber() {
+        BookChangeFeed feed = feed(Overflow.DROP_OLDEST, 8);
+        Disposable stalled = feed.changes(null).subscribeWith(new Stalled());
+
+        for (long id = 1; id <= 100; id++) {
+            feed.consume(List.of(new BookCreated(book(id))));
+        }
+
+        await(() -> registry.get("books.changes.dropped").counter().count() > 0);
+        Assertions.assertEquals(1.0, subscribers());
+        stalled.dispose();
+        Assertions.assertEquals(0.0, subscribers());
+    }
+
+    private BookChangeFeed feed(Overflow overflow, int historySize) {
+        BookChangeFeedConfiguration configuration = new BookChangeFeedConfiguration();
+        configuration.setOverflow(overflow);
+        configuration.setHistorySize(historySize);
+        configuration.setSubscriberBuffer(4);
+        return new BookChangeFeed(configuration, registry);
+    }
+
+    // a disconnect completes on the subscriber's worker, after consume returns
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+
+    private double subscribers() {
+        return registry.get("books.changes.subscribers").gauge().value();
+    }
+
+    private static Book book(long id) {
+        return Book.builder().id(id).title("Book " + id).pages(100).version(0L).build();
+    }
+
+    // never requests anything, like a client whose socket stopped draining
+    private static final class Stalled extends BaseSubscriber<BookChange> {
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package mn_react.infrastructure.persistence;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.persistence.entity.BookChangesEntity;
+import mn_react.infrastructure.persistence.jdbc.BookChangesRepository;
+import mn_react.infrastructure.persistence.routing.BookReadRouter;
+import mn_react.infrastructure.persistence.routing.BookReadRoutingConfiguration;
+
+class BookChangeCounterTest {
+
+    private final BookChangesRepository repository = mock(BookChangesRepository.class);
+
+    @Test
+    void readsTheDatabaseOncePerMaxAge() throws InterruptedException {
+        when(repository.findById(BookChangesEntity.ID)).thenReturn(changes(1), changes(2));
+        BookChangeCounter counter = counter(Duration.ofMillis(200));
+
+        String first = counter.current();
+        Assertions.assertEquals(first, counter.current());
+        verify(repository, times(1)).findById(BookChangesEntity.ID);
+
+        Thread.sleep(250);
+        Assertions.assertNotEquals(first, counter.current());
+        verify(repository, times(2)).findById(BookChangesEntity.ID);
+    }
+
+    @Test
+    void aLocalWriteIsSeenByTheNextRead() {
+        when(repository.findById(BookChangesEntity.ID)).thenReturn(changes(1), changes(2));
+        BookChangeCounter counter = counter(Duration.ofMinutes(1));
+
+        String before = counter.current();
+        counter.onCreated(Book.builder().id(1L).title("Local").pages(10).version(0L).build());
+
+        Assertions.assertNotEquals(before, counter.current());
+    }
+
+    private BookChangeCounter counter(Duration maxAge) {
+        BookChangeCounterConfiguration configuration = new BookChangeCounterConfiguration();
+        configuration.setMaxAge(maxAge);
+        return new BookChangeCounter(repository, new BookReadRouter(new BookReadRoutingConfiguration()), configuration);
+    }
+
+    private static Optional<BookChangesEntity> changes(long version) {
+        BookChangesEntity changes = new BookChangesEntity();
+        changes.setId(BookChangesEntity.ID);
+        changes.setCreatedAt(Instant.EPOCH);
+        changes.setVersion(version);
+        return Optional.of(changes);
+    }
+}
@@ -0,0 +1,63 @@
+package mn_react.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.repository.BookUpdate;
+import mn_react.domain.entities.Book;
+import mn_react.domain.exception.ConflictException;
+
+@MicronautTest
+class BookRepositoryImplTest {
+
+    @Inject
+    BookRepository bookRepository;
+
+    @Test
+    void titleLookupsIgnoreCase() {
+        Book saved = bookRepository.save(book(null, "Dune Messiah"));
+
+        Assertions.assertEquals(Map.of("dune messiah", saved.getId()),
+            bookRepository.findIdsByTitleIgnoreCase(List.of("DUNE messiah", "Dune Prophecy")));
+    }
+
+    @Test
+    void databaseRejectsDuplicatesThatSkipTheCheck() {
+        Book saved = bookRepository.save(book(null, "Children of Dune"));
+        Book other = bookRepository.save(book(null, "God Emperor of Dune"));
+
+        Assertions.assertThrows(ConflictException.class,
+            () -> bookRepository.save(book(null, "CHILDREN OF DUNE")));
+        other.setTitle("children of dune");
+        Assertions.assertThrows(ConflictException.class, () -> bookRepository.updateIfMatches(other, null));
+        Assertions.assertEquals("Children of Dune", bookRepository.findById(saved.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        Book saved = bookRepository.save(book(null, "Heretics of Dune"));
+        BookUpdate update = bookRepository.updateIfMatches(Book.builder()
+            .id(saved.getId()).title(saved.getTitle()).pages(400).build(), saved.getVersion()).orElseThrow();
+
+        Assertions.assertEquals(300, update.getPrevious().getPages());
+        Assertions.assertEquals(saved.getVersion() + 1, update.getCurrent().getVersion());
+        saved.setPages(500);
+        Assertions.assertTrue(bookRepository.updateIfMatches(saved, saved.getVersion()).isEmpty());
+    }
+
+    @Test
+    void deleteReturnsTheRemovedBook() {
+        Book saved = bookRepository.save(book(null, "Chapterhouse: Dune"));
+
+        Assertions.assertEquals("Chapterhouse: Dune", bookRepository.deleteById(saved.getId()).orElseThrow().getTitle());
+        Assertions.assertTrue(bookRepository.deleteById(saved.getId()).isEmpty());
+    }
+
+    private static Book book(Long id, String title) {
+        return Book.builder().id(id).title(title).pages(300).build();
+    }
+}
@@ -0,0 +1,58 @@
+package mn_react.infrastructure.persistence;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.application.repository.BookRepository;
+import mn_react.application.usecase.book.CreateBookUseCase;
+import mn_react.domain.entities.Book;
+import mn_react.infrastructure.http.dto.responses.BookResponse;
+import mn_react.infrastructure.persistence.jdbc.BookResponseRepository;
+
+// the export cursor runs on its own connection, so rows must be committed
+@MicronautTest(transactional = false)
+class BookResponseReaderTest {
+
+    @Inject
+    BookRepository bookRepository;
+
+    @Inject
+    BookResponseReader reader;
+
+    @Inject
+    BookResponseRepository responses;
+
+    @Inject
+    CreateBookUseCase createBookUseCase;
+
+    @Test
+    void indexedSearchesMatchTheQueries() {
+        for (int i = 0; i < 6; i++) {
+            createBookUseCase.execute("Projected Volume " + i, 200 + i);
+        }
+
+        for (String search : new String[] {"", "projected", "pr"}) {
+            Assertions.assertEquals(
+                describe(responses.findAllPaginated(0, 4, search).stream()),
+                describe(reader.findAll(0, 4, search).stream()));
+        }
+
+        long afterId = reader.findAll(0, 2, "projected").get(1).getId();
+        Assertions.assertEquals(
+            describe(responses.findAllAfterId(afterId, 3, "projected").stream()),
+            describe(reader.findAllAfter(afterId, 3, "projected").stream()));
+
+        try (Stream<BookResponse> all = reader.streamAll(); Stream<Book> domain = bookRepository.streamAll()) {
+            Assertions.assertEquals(describe(domain.map(BookResponse::fromDomain)), describe(all));
+        }
+    }
+
+    private static List<String> describe(Stream<BookResponse> books) {
+        return books
+            .map(book -> book.getId() + "|" + book.getTitle() + "|" + book.getPages() + "|" + book.getVersion())
+            .toList();
+    }
+}
@@ -0,0 +1,76 @@
+package mn_react.infrastructure.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.context.BeanContext;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+
+/**
+ * Guards the migrations against the repositories: every hot query must be answered through an
+ * index. The SQL is taken from the compiled repository metadata, so editing a query is covered too.
+ * {@code countWithSearch} is left out; a '%term%' count scans on H2 and is served by the count cache.
+ */
+@MicronautTest(transactional = false)
+class BookQueryPlanTest {
+
+    private static final Set<String> HOT_QUERIES = Set.of(
+        "findById",
+        "findByIdInOrderByIdDesc",
+        "findByTitleNormalizedIn",
+        "deleteByIdIn",
+        "findAllPaginated",
+        "findAllAfterId");
+
+    private static final Pattern INDEX_LOOKUP = Pattern.compile("/\\* PUBLIC\\.\\w+: ");
+
+    @Inject
+    BeanContext beanContext;
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void hotQueriesUseAnIndex() throws Exception {
+        List<ExecutableMethod<?, ?>> methods = List.of(BookJdbcRepository.class, BookResponseRepository.class)
+            .stream()
+            .<ExecutableMethod<?, ?>>flatMap(type -> beanContext.getBeanDefinition(type).getExecutableMethods().stream())
+            .filter(method -> HOT_QUERIES.contains(method.getMethodName()))
+            .toList();
+        Assertions.assertTrue(methods.size() >= HOT_QUERIES.size(), "hot queries not found: " + methods);
+
+        try (Connection connection = DelegatingDataSource.unwrapDataSource(dataSource).getConnection()) {
+            for (ExecutableMethod<?, ?> method : methods) {
+                String sql = method.stringValue(Query.class, "rawQuery")
+                    .or(() -> method.stringValue(Query.class))
+                    .orElseThrow();
+                String plan = explain(connection, sql);
+                String name = method.getDeclaringType().getSimpleName() + "." + method.getMethodName();
+                // H2 marks an index lookup as "/* INDEX: condition */"; a bare "/* INDEX */" is a full scan
+                Assertions.assertTrue(INDEX_LOOKUP.matcher(plan).find() || plan.contains("/* index sorted */"),
+                    name + " is not served by an index:\n" + plan);
+            }
+        }
+    }
+
+    private static String explain(Connection connection, String sql) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet plan = statement.executeQuery()) {
+            StringBuilder text = new StringBuilder();
+            while (plan.next()) {
+                text.append(plan.getString(1)).append('\n');
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package mn_react.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TrigramTitleIndexTest {
+
+    private static final String[] WORDS = {
+        "the", "lord", "of", "rings", "hobbit", "harry", "potter", "ÁRVORE", "straße", "war", "and", "peace"
+    };
+
+    @Test
+    void searchMatchesLowerLikeSemantics() {
+        Random random = new Random(42);
+        TrigramTitleIndex index = new TrigramTitleIndex();
+        Map<Long, String> titles = new TreeMap<>();
+
+        for (long id = 1; id <= 3000; id++) {
+            String title = randomTitle(random);
+            titles.put(id, title);
+            index.add(id, title);
+        }
+        for (long id = 1; id <= 3000; id += 3) {
+            titles.remove(id);
+            index.remove(id);
+        }
+        for (long id = 2; id <= 3000; id += 7) {
+            String title = randomTitle(random);
+            titles.put(id, title);
+            index.add(id, title);
+        }
+
+        for (String term : List.of("the", "HOB", "rings pot", "árv", "STRASSE", "straße", "zzz", "e o")) {
+            Assertions.assertArrayEquals(scan(titles, term), index.search(term), term);
+        }
+    }
+
+    @Test
+    void wildcardsAndShortTermsAreLeftToSql() {
+        Assertions.assertFalse(TrigramTitleIndex.supports(null));
+        Assertions.assertFalse(TrigramTitleIndex.supports("ab"));
+        Assertions.assertFalse(TrigramTitleIndex.supports("a%b"));
+        Assertions.assertFalse(TrigramTitleIndex.supports("a_b"));
+        Assertions.assertTrue(TrigramTitleIndex.supports("abc"));
+    }
+
+    private static String randomTitle(Random random) {
+        int words = 1 + random.nextInt(5);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    private static long[] scan(Map<Long, String> titles, String term) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        List<Long> ids = new ArrayList<>();
+        titles.forEach((id, title) -> {
+            if (title.toLowerCase(Locale.ROOT).contains(needle)) {
+                ids.add(0, id);
+            }
+        });
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,45 @@
+package mn_react.infrastructure.seed;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import mn_react.infrastructure.persistence.entity.BookEntity;
+import mn_react.infrastructure.persistence.jdbc.BookJdbcRepository;
+
+@MicronautTest
+@Property(name = "books.seed.rows", value = "2500")
+@Property(name = "books.seed.batch-size", value = "300")
+@Property(name = "books.seed.connections", value = "3")
+class BookSeederTest {
+
+    @Inject
+    BookJdbcRepository bookJdbcRepository;
+
+    @Inject
+    BookSeedConfiguration configuration;
+
+    @Test
+    void seedsUniqueSyntheticBooksBeforeStartup() {
+        Assertions.assertEquals(2500, bookJdbcRepository.count());
+        Set<String> titles = new HashSet<>();
+        for (BookEntity book : bookJdbcRepository.findAll()) {
+            Assertions.assertTrue(titles.add(book.getTitleNormalized()), book.getTitle());
+            Assertions.assertTrue(book.getPages() >= 1 && book.getPages() <= 10_000);
+        }
+        Assertions.assertFalse(titles.contains("the hobbit"));
+    }
+
+    @Test
+    void sameSeedGeneratesTheSameBooks() {
+        BookTitleGenerator generator = new BookTitleGenerator(configuration);
+        Assertions.assertEquals(generator.book(1234), new BookTitleGenerator(configuration).book(1234));
+
+        BookSeedConfiguration reseeded = new BookSeedConfiguration();
+        reseeded.setRandomSeed(configuration.getRandomSeed() + 1);
+        Assertions.assertNotEquals(generator.book(1234), new BookTitleGenerator(reseeded).book(1234));
+    }
+}
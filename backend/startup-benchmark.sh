@@ -0,0 +1,21 @@
+#!/usr/bin/env sh
+# Builds the JVM, AOT and (when GraalVM native-image is available) native variants into
+# target/startup and compares their cold start. Extra arguments go to BookStartupBenchmark.
+set -e
+cd "$(dirname "$0")"
+mkdir -p target/startup
+
+./mvnw -B -q -DskipTests clean package
+cp target/backend-0.1.jar target/startup/backend-jvm.jar
+
+./mvnw -B -q -DskipTests -Paot package
+cp target/backend-0.1.jar target/startup/backend-aot.jar
+
+if [ -x "${JAVA_HOME}/bin/native-image" ] || command -v native-image >/dev/null 2>&1; then
+  ./mvnw -B -q -DskipTests -Pnative-image package
+  cp target/backend target/startup/backend
+fi
+
+./mvnw -B -q -Pbenchmark test-compile exec:exec \
+  -Dbenchmark.main=mn_react.benchmark.BookStartupBenchmark \
+  -Dbenchmark.args="jvm=target/startup/backend-jvm.jar aot=target/startup/backend-aot.jar native=target/startup/backend $*"
@@ -1,6 +1,6 @@
 import { DashboardLayout } from '@/app/layouts/dashboard/DashboardLayout';
 import { DefaultLayout } from '@/app/layouts/default/DefaultLayout';
-import { AdminBooksPage, BookDetailsPage } from '@/features/books';
+import { AdminBooksPage, BookDetailsPage, useBookChanges } from '@/features/books';
 import { DashboardHomePage } from '@/features/dashboard/views/DashboardHomePage';
 import { HomePage } from '@/features/home/views/HomePage';
 import { NotificationSnackbar } from '@/shared/components/NotificationSnackbar';
@@ -10,7 +10,20 @@ import { QueryClient, QueryClientProvider } from '@tanstack/react-query';
 import { BrowserRouter, Route, Routes } from "react-router-dom";
 import { darkTheme, lightTheme } from "./theme";
 
-export const queryClient = new QueryClient();
+// book queries are invalidated by the change stream instead of re-fetching on focus
+export const queryClient = new QueryClient({
+  defaultOptions: {
+    queries: {
+      staleTime: Infinity,
+      refetchOnWindowFocus: false,
+    },
+  },
+});
+
+const BookChangesListener = () => {
+  useBookChanges();
+  return null;
+};
 
 export const Router = () => {
   const mode = useThemeStore((state) => state.mode);
@@ -18,6 +31,7 @@ export const Router = () => {
 
   return (
     <QueryClientProvider client={queryClient}>
+      <BookChangesListener />
       <ThemeProvider theme={theme}>
         <CssBaseline />
         <BrowserRouter>
@@ -0,0 +1,27 @@
+import { useEffect } from "react";
+import { useQueryClient } from "@tanstack/react-query";
+import api from "@/app/config/axios";
+import type { IBook } from "../types/Book";
+
+const CHANGE_EVENTS = ['created', 'updated', 'deleted', 'reset'];
+
+// One stream per tab replaces re-fetching the list; EventSource reconnects with Last-Event-ID
+export const useBookChanges = () => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    const source = new EventSource(`${api.defaults.baseURL}/books/changes`);
+    const onChange = (event: MessageEvent<string>) => {
+      queryClient.invalidateQueries({ queryKey: ['books'] });
+      queryClient.invalidateQueries({ queryKey: ['books-count'] });
+      if (event.type === 'reset') {
+        queryClient.invalidateQueries({ queryKey: ['book'] });
+      } else if (event.type !== 'created') {
+        const book: IBook = JSON.parse(event.data);
+        queryClient.invalidateQueries({ queryKey: ['book', String(book.id)] });
+      }
+    };
+    CHANGE_EVENTS.forEach((name) => source.addEventListener(name, onChange));
+    return () => source.close();
+  }, [queryClient]);
+};
@@ -1,5 +1,6 @@
 // Hooks públicos
 export { useGetBooks, useGetBookById, useGetAllBooks } from './hooks/useBooks';
+export { useBookChanges } from './hooks/useBookChanges';
 
 // Types públicos
 export type { IBook, IBookRequest } from './types/Book';